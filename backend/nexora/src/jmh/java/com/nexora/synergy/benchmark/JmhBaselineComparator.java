@@ -0,0 +1,140 @@
+package com.nexora.synergy.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares a JMH JSON result (-rf json) against a recorded baseline and
+ * fails on regressions.
+ *
+ * A benchmark regresses when its score moves the wrong way (slower for
+ * avgt/sample/ss, fewer ops for thrpt) by more than threshold percent AND
+ * by more than the two runs' combined error, or when gc.alloc.rate.norm
+ * (bytes per operation, needs -prof gc) grows by more than threshold
+ * percent. Benchmarks missing from either file are listed, not failed.
+ *
+ * Record a baseline per release (results are machine-specific — compare
+ * runs from the same host). The jmh profile's default jmh.baseline is
+ * src/jmh/baseline/baseline.json:
+ *
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec
+ * mkdir -p src/jmh/baseline &amp;&amp; cp target/jmh-result.json src/jmh/baseline/baseline.json
+ * mvn -Pjmh exec:exec@jmh-compare
+ * </pre>
+ *
+ * With no baseline recorded yet there is nothing to regress against: the
+ * comparator says how to record one and exits 0.
+ */
+public final class JmhBaselineComparator {
+
+    private static final String ALLOC_NORM = "gc.alloc.rate.norm";
+
+    private JmhBaselineComparator() {
+    }
+
+    /**
+     * @param args baseline.json current.json [threshold-percent, default 10]
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: JmhBaselineComparator <baseline.json> <current.json> [threshold-percent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+        File baselineFile = new File(args[0]);
+        File currentFile = new File(args[1]);
+        if (!currentFile.isFile()) {
+            System.err.println("No benchmark results at " + currentFile + "; run them first:");
+            System.err.println("  mvn -Pjmh test-compile exec:exec");
+            System.exit(2);
+        }
+        if (!baselineFile.isFile()) {
+            System.out.println("No baseline at " + baselineFile + ", nothing to compare against. Record one with:");
+            System.out.println("  mkdir -p " + parentOf(baselineFile) + " && cp " + currentFile + " " + baselineFile);
+            System.out.println("(or pass -Djmh.baseline=<recorded result>)");
+            System.exit(0);
+        }
+        Map<String, JsonNode> baseline = load(baselineFile);
+        Map<String, JsonNode> current = load(currentFile);
+
+        int regressions = 0;
+        System.out.printf("%-90s %14s %14s %9s %12s%n", "benchmark", "baseline", "current", "delta", "alloc B/op");
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            JsonNode after = entry.getValue();
+            if (before == null) {
+                System.out.printf("%-90s %14s %14.3f %9s%n", entry.getKey(), "(new)", score(after), "");
+                continue;
+            }
+            double delta = percentChange(score(before), score(after));
+            boolean slower = after.path("mode").asText().equals("thrpt") ? delta < 0 : delta > 0;
+            boolean scoreRegressed = slower && Math.abs(delta) > threshold
+                    && Math.abs(score(after) - score(before)) > error(before) + error(after);
+
+            Double allocBefore = allocNorm(before);
+            Double allocAfter = allocNorm(after);
+            String alloc = "";
+            boolean allocRegressed = false;
+            if (allocBefore != null && allocAfter != null) {
+                alloc = String.format("%.0f→%.0f", allocBefore, allocAfter);
+                allocRegressed = allocAfter > allocBefore
+                        && (allocBefore == 0 || percentChange(allocBefore, allocAfter) > threshold);
+            }
+            String flag = scoreRegressed || allocRegressed ? "  REGRESSION" : "";
+            System.out.printf("%-90s %14.3f %14.3f %+8.1f%% %12s%s%n",
+                    entry.getKey(), score(before), score(after), delta, alloc, flag);
+            if (!flag.isEmpty()) {
+                regressions++;
+            }
+        }
+        baseline.keySet().stream()
+                .filter(key -> !current.containsKey(key))
+                .forEach(key -> System.out.printf("%-90s %14.3f %14s%n", key, score(baseline.get(key)), "(gone)"));
+
+        System.out.printf("%n%d regression(s) beyond %.1f%%%n", regressions, threshold);
+        System.exit(regressions == 0 ? 0 : 1);
+    }
+
+    /** Results keyed by benchmark name plus its parameters. */
+    private static Map<String, JsonNode> load(File file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            Map<String, String> params = new TreeMap<>();
+            result.path("params").properties().forEach(p -> params.put(p.getKey(), p.getValue().asText()));
+            String key = result.path("benchmark").asText() + (params.isEmpty() ? "" : params.toString())
+                    + " [" + result.path("mode").asText() + ", " + result.path("threads").asInt() + "t]";
+            results.put(key, result);
+        }
+        return results;
+    }
+
+    private static String parentOf(File file) {
+        String parent = file.getParent();
+        return parent != null ? parent : ".";
+    }
+
+    private static double score(JsonNode result) {
+        return result.path("primaryMetric").path("score").asDouble();
+    }
+
+    private static double error(JsonNode result) {
+        double error = result.path("primaryMetric").path("scoreError").asDouble(0);
+        return Double.isNaN(error) ? 0 : error;
+    }
+
+    private static Double allocNorm(JsonNode result) {
+        JsonNode metric = result.path("secondaryMetrics").path(ALLOC_NORM);
+        return metric.isMissingNode() ? null : metric.path("score").asDouble();
+    }
+
+    private static double percentChange(double before, double after) {
+        return before == 0 ? 0 : (after - before) / before * 100;
+    }
+}
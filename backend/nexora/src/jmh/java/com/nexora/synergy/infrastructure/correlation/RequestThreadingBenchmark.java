@@ -0,0 +1,138 @@
+package com.nexora.synergy.infrastructure.correlation;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Platform vs virtual request threads in front of a bounded connection pool:
+ * REQUESTS concurrent requests (Tomcat's default max threads), each taking a
+ * connection and running one blocking query, with the correlation context
+ * propagated the way the app does it.
+ *
+ * mvn -Pjmh test-compile exec:exec -Djmh.include=RequestThreadingBenchmark
+ *
+ * With NEXORA_TEST_PG_URL (+ _USER, _PASSWORD) set the query is
+ * SELECT pg_sleep() through a HikariDataSource of poolSize; without it the
+ * pool is simulated by a fair semaphore and the query by a sleep, which is
+ * enough to compare the thread models but not to size the pool.
+ *
+ * Expect the two thread types to converge once poolSize is the bottleneck:
+ * virtual threads remove the thread limit, not the connection limit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestThreadingBenchmark {
+
+    private static final int REQUESTS = 200;
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    @Param({"10", "50"})
+    public int poolSize;
+
+    @Param({"5"})
+    public int queryMillis;
+
+    private ExecutorService requestThreads;
+    private HikariDataSource dataSource;
+    private Semaphore simulatedPool;
+
+    @Setup
+    public void setUp() {
+        requestThreads = "virtual".equals(threads)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(REQUESTS, Thread.ofPlatform().name("http-nio-", 0).factory());
+
+        String url = System.getenv("NEXORA_TEST_PG_URL");
+        if (url != null) {
+            HikariConfig config = new HikariConfig();
+            config.setJdbcUrl(url);
+            config.setUsername(System.getenv("NEXORA_TEST_PG_USER"));
+            config.setPassword(System.getenv("NEXORA_TEST_PG_PASSWORD"));
+            config.setMaximumPoolSize(poolSize);
+            config.setMinimumIdle(poolSize);
+            dataSource = new HikariDataSource(config);
+        } else {
+            simulatedPool = new Semaphore(poolSize, true);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        requestThreads.close();
+        if (dataSource != null) {
+            dataSource.close();
+        }
+        CorrelationContext.clear();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public int requests() throws Exception {
+        List<Future<?>> inFlight = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            CorrelationContext.set("bench-" + i);
+            inFlight.add(requestThreads.submit(ContextSnapshot.capture().wrap(this::handle)));
+        }
+        CorrelationContext.clear();
+        for (Future<?> request : inFlight) {
+            request.get();
+        }
+        return inFlight.size();
+    }
+
+    private Void handle() throws Exception {
+        if (dataSource != null) {
+            query();
+        } else {
+            simulatedPool.acquire();
+            try {
+                Thread.sleep(queryMillis);
+            } finally {
+                simulatedPool.release();
+            }
+        }
+        if (CorrelationContext.current().isEmpty()) {
+            throw new IllegalStateException("Correlation ID lost on " + Thread.currentThread());
+        }
+        return null;
+    }
+
+    private void query() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement("SELECT pg_sleep(?)")) {
+            statement.setDouble(1, queryMillis / 1000.0);
+            statement.execute();
+        }
+    }
+}
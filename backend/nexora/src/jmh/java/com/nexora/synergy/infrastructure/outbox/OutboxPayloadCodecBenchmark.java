@@ -0,0 +1,87 @@
+package com.nexora.synergy.infrastructure.outbox;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.nexora.synergy.platform.domain.events.TenantActivatedEvent;
+import com.nexora.synergy.platform.domain.events.TenantRegisteredEvent;
+import com.nexora.synergy.platform.domain.shared.events.DomainEvent;
+
+/**
+ * Outbox payload formats: encode cost (publisher, per event written), decode
+ * cost (consumers) and payload size.
+ *
+ * mvn -Pjmh test-compile exec:exec -Djmh.include=OutboxPayloadCodecBenchmark
+ *
+ * The encoded size of each (format, event) pair is printed once per fork,
+ * next to the timings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class OutboxPayloadCodecBenchmark {
+
+    @Param({"json", "smile"})
+    public String format;
+
+    @Param({"tenant.registered.v1", "tenant.activated.v1"})
+    public String eventType;
+
+    private OutboxPayloadCodec codec;
+    private DomainEvent event;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        // Same settings as the Spring Boot ObjectMapper the app injects
+        ObjectMapper mapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        codec = OutboxPayloadCodecs.jackson(mapper, format).writer();
+        event = switch (eventType) {
+            case "tenant.registered.v1" -> new TenantRegisteredEvent("7f8a3c1e-0000-4000-8000-000000000001",
+                    "greenfield", "Greenfield College of Arts and Sciences", "admin@greenfield.edu",
+                    "Ada Admin", "zs-7f8a3c1e-req-000001");
+            case "tenant.activated.v1" -> new TenantActivatedEvent("7f8a3c1e-0000-4000-8000-000000000001",
+                    "greenfield", "tenant_greenfield", "admin@greenfield.edu", "zs-7f8a3c1e-req-000001");
+            default -> throw new IllegalArgumentException(eventType);
+        };
+        encoded = codec.encode(event);
+    }
+
+    @TearDown
+    public void reportSize() {
+        System.out.printf("%n%s %s payload: %d bytes%n", format, eventType, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return codec.encode(event);
+    }
+
+    @Benchmark
+    public JsonNode decode() throws IOException {
+        return codec.readTree(encoded);
+    }
+}
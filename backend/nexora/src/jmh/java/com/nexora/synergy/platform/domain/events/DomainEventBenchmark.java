@@ -0,0 +1,82 @@
+package com.nexora.synergy.platform.domain.events;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+/**
+ * Event creation on the registration path: BaseDomainEvent construction
+ * (random UUID + Instant.now() per event) and the outbox JSON serialization
+ * that follows it. The 4-thread variant shows contention on the shared
+ * SecureRandom behind UUID.randomUUID().
+ *
+ * Payload format comparisons (JSON vs Smile) are in
+ * OutboxPayloadCodecBenchmark.
+ *
+ * mvn -Pjmh test-compile exec:exec -Djmh.include=DomainEventBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DomainEventBenchmark {
+
+    private static final String TENANT_ID = "7f8a3c1e-0000-4000-8000-000000000001";
+
+    private ObjectWriter writer;
+    private TenantRegisteredEvent event;
+
+    @Setup
+    public void setUp() {
+        // Same settings as the Spring Boot ObjectMapper the outbox publisher uses
+        writer = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writer();
+        event = newRegisteredEvent();
+    }
+
+    @Benchmark
+    public TenantRegisteredEvent construct() {
+        return newRegisteredEvent();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public TenantRegisteredEvent constructContended() {
+        return newRegisteredEvent();
+    }
+
+    @Benchmark
+    public String serializeJson() throws IOException {
+        return writer.writeValueAsString(event);
+    }
+
+    @Benchmark
+    public String constructAndSerialize() throws IOException {
+        return writer.writeValueAsString(newRegisteredEvent());
+    }
+
+    private static TenantRegisteredEvent newRegisteredEvent() {
+        return new TenantRegisteredEvent(TENANT_ID, "greenfield", "Greenfield College",
+                "admin@greenfield.edu", "Ada Admin", "zs-7f8a3c1e-req-000001");
+    }
+}
@@ -0,0 +1,122 @@
+package com.nexora.synergy.platform.domain.model;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.nexora.synergy.exception.InvalidTenantStateTransitionException;
+
+/**
+ * Registration-path validation: TenantDomain.of (single pass + reserved
+ * set), ContactInfo.of (single-pass email check) and
+ * TenantStatus.transitionTo — the accept path every registration takes, and
+ * the reject paths bad input and replays take (exception construction
+ * included).
+ *
+ * legacy* run the regex validation the value objects used before, as the
+ * baseline for the single-pass versions.
+ *
+ * mvn -Pjmh test-compile exec:exec -Djmh.include=DomainValueObjectBenchmark
+ *
+ * The default jmh.args include -prof gc: compare gc.alloc.rate.norm (bytes
+ * per operation) between tenantDomainValid and legacySubdomainValid.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DomainValueObjectBenchmark {
+
+    private static final String[] SUBDOMAINS = {
+        "greenfield", "st-marys-college", "a1b2c3", "northwood-international-school-of-sciences", "xyz"
+    };
+    private static final String[] EMAILS = {
+        "admin@greenfield.edu", "Registrar.Office@st-marys.ac.uk", "it+ops@northwood-international.org"
+    };
+
+    private static final Pattern LEGACY_SUBDOMAIN
+            = Pattern.compile("^[a-z0-9]([a-z0-9\\-]{1,61}[a-z0-9])?$");
+    private static final Pattern LEGACY_EMAIL
+            = Pattern.compile("^[a-zA-Z0-9._%+\\-]+@[a-zA-Z0-9.\\-]+\\.[a-zA-Z]{2,}$");
+
+    private int next;
+
+    @Benchmark
+    public TenantDomain tenantDomainValid() {
+        return TenantDomain.of(SUBDOMAINS[next++ % SUBDOMAINS.length]);
+    }
+
+    @Benchmark
+    public TenantDomain tenantDomainMixedCase() {
+        return TenantDomain.of("GreenField-College");
+    }
+
+    @Benchmark
+    public boolean legacySubdomainValid() {
+        String subdomain = SUBDOMAINS[next++ % SUBDOMAINS.length];
+        return LEGACY_SUBDOMAIN.matcher(subdomain.toLowerCase()).matches()
+                && !subdomain.toLowerCase().equals("admin");
+    }
+
+    @Benchmark
+    public Object tenantDomainReserved() {
+        try {
+            return TenantDomain.of("admin");
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object tenantDomainMalformed() {
+        try {
+            return TenantDomain.of("Green_Field!");
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public ContactInfo contactInfoValid() {
+        return ContactInfo.of("Ada Admin", EMAILS[next++ % EMAILS.length], "+44 20 7946 0000");
+    }
+
+    @Benchmark
+    public boolean legacyEmailValid() {
+        return LEGACY_EMAIL.matcher(EMAILS[next++ % EMAILS.length]).matches();
+    }
+
+    @Benchmark
+    public Object contactInfoInvalidEmail() {
+        try {
+            return ContactInfo.of("Ada Admin", "admin-at-greenfield.edu", null);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public TenantStatus transitionAllowed() {
+        return TenantStatus.PROVISIONING.transitionTo(TenantStatus.ACTIVE);
+    }
+
+    @Benchmark
+    public Object transitionRejected() {
+        try {
+            return TenantStatus.TERMINATED.transitionTo(TenantStatus.ACTIVE);
+        } catch (InvalidTenantStateTransitionException e) {
+            return e;
+        }
+    }
+}
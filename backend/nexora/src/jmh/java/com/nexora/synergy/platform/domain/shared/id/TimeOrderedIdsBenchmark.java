@@ -0,0 +1,64 @@
+package com.nexora.synergy.platform.domain.shared.id;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ID generation: UUID.randomUUID() (SecureRandom) and the previous
+ * correlation ID format vs TimeOrderedIds.
+ *
+ * mvn -Pjmh test-compile exec:exec -Djmh.include=TimeOrderedIdsBenchmark
+ *
+ * Runs on 8 threads, like a busy request pool: the contention on
+ * SecureRandom and on the shared sequence counter is the point. Add
+ * -Djmh.args="TimeOrderedIdsBenchmark -t 1 -prof gc" for the uncontended
+ * cost and allocation per ID.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(8)
+public class TimeOrderedIdsBenchmark {
+
+    @Benchmark
+    public UUID randomUuid() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    public UUID timeOrderedUuid() {
+        return TimeOrderedIds.next();
+    }
+
+    @Benchmark
+    public String randomUuidString() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public String timeOrderedUuidString() {
+        return TimeOrderedIds.next().toString();
+    }
+
+    /** CorrelationContext.generate() before TimeOrderedIds. */
+    @Benchmark
+    public String legacyCorrelationId() {
+        return "zs-" + UUID.randomUUID().toString().replace("-", "").substring(0, 16);
+    }
+
+    @Benchmark
+    public String timeOrderedCorrelationId() {
+        return TimeOrderedIds.nextString("zs-");
+    }
+}
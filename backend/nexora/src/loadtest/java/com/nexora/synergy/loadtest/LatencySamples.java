@@ -0,0 +1,63 @@
+package com.nexora.synergy.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Every recorded latency (nanoseconds), kept exactly — a 60 s run at a few
+ * thousand requests per second is a few MB — so percentiles are exact rather
+ * than bucketed. One instance per worker and workload; merged after the run.
+ */
+final class LatencySamples {
+
+    private long[] nanos = new long[1024];
+    private int size;
+
+    void record(long latencyNanos) {
+        if (size == nanos.length) {
+            nanos = Arrays.copyOf(nanos, size * 2);
+        }
+        nanos[size++] = latencyNanos;
+    }
+
+    void addAll(LatencySamples other) {
+        if (size + other.size > nanos.length) {
+            nanos = Arrays.copyOf(nanos, Math.max(size + other.size, nanos.length * 2));
+        }
+        System.arraycopy(other.nanos, 0, nanos, size, other.size);
+        size += other.size;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /** count, mean, p50, p90, p99, p999 and max, in milliseconds. */
+    Map<String, Object> summary() {
+        long[] sorted = Arrays.copyOf(nanos, size);
+        Arrays.sort(sorted);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", size);
+        summary.put("meanMs", size == 0 ? 0 : millis(Arrays.stream(sorted).sum() / size));
+        summary.put("p50Ms", percentile(sorted, 0.50));
+        summary.put("p90Ms", percentile(sorted, 0.90));
+        summary.put("p99Ms", percentile(sorted, 0.99));
+        summary.put("p999Ms", percentile(sorted, 0.999));
+        summary.put("maxMs", size == 0 ? 0 : millis(sorted[size - 1]));
+        return summary;
+    }
+
+    /** Nearest-rank percentile. */
+    static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(p * sorted.length);
+        return millis(sorted[Math.max(0, rank - 1)]);
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0; // µs precision
+    }
+}
@@ -0,0 +1,107 @@
+package com.nexora.synergy.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command line of RegistrationLoadTest: --name=value pairs, all optional.
+ *
+ * <pre>
+ * --base-url=http://localhost:8080
+ * --concurrency=32                      closed-loop workers (one virtual thread each)
+ * --warmup=10s --duration=60s           warmup requests are sent but not recorded
+ * --mix=new:80,replay:15,conflict:5     workload weights
+ * --seed=42                             workload choice and subdomain sequence
+ * --header=Authorization:Basic%20...    repeatable; %20 for spaces
+ * --report=target/loadtest-report.json
+ * --pg-url=jdbc:postgresql://localhost:5432/nexora --pg-user=... --pg-password=...
+ *                                       defaults: NEXORA_TEST_PG_URL / _USER / _PASSWORD;
+ *                                       without a URL, DB round trips are not measured
+ * --idle-sample=5s                      background statement rate, measured before warmup
+ * --slo-p99-ms=250 --slo-p999-ms=1000   exit 1 when missed
+ * </pre>
+ */
+record LoadTestOptions(
+        URI baseUrl,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        Map<Workload, Integer> mix,
+        long seed,
+        Map<String, String> headers,
+        Path report,
+        String pgUrl,
+        String pgUser,
+        String pgPassword,
+        Duration idleSample,
+        Double sloP99Ms,
+        Double sloP999Ms
+        ) {
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, List<String>> values = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            values.computeIfAbsent(arg.substring(2, eq), k -> new ArrayList<>()).add(arg.substring(eq + 1));
+        }
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (String header : values.getOrDefault("header", List.of())) {
+            int colon = header.indexOf(':');
+            headers.put(header.substring(0, colon).trim(), header.substring(colon + 1).trim().replace("%20", " "));
+        }
+        return new LoadTestOptions(
+                URI.create(single(values, "base-url", "http://localhost:8080")),
+                Integer.parseInt(single(values, "concurrency", "32")),
+                duration(single(values, "warmup", "10s")),
+                duration(single(values, "duration", "60s")),
+                mix(single(values, "mix", "new:80,replay:15,conflict:5")),
+                Long.parseLong(single(values, "seed", "42")),
+                headers,
+                Path.of(single(values, "report", "target/loadtest-report.json")),
+                single(values, "pg-url", System.getenv("NEXORA_TEST_PG_URL")),
+                single(values, "pg-user", System.getenv("NEXORA_TEST_PG_USER")),
+                single(values, "pg-password", System.getenv("NEXORA_TEST_PG_PASSWORD")),
+                duration(single(values, "idle-sample", "5s")),
+                optionalDouble(single(values, "slo-p99-ms", null)),
+                optionalDouble(single(values, "slo-p999-ms", null)));
+    }
+
+    private static String single(Map<String, List<String>> values, String name, String fallback) {
+        List<String> given = values.get(name);
+        return given == null ? fallback : given.get(given.size() - 1);
+    }
+
+    static Duration duration(String text) {
+        if (text.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+        }
+        long amount = Long.parseLong(text.substring(0, text.length() - 1));
+        return switch (text.charAt(text.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            default -> throw new IllegalArgumentException("Duration must end in ms, s or m: " + text);
+        };
+    }
+
+    private static Map<Workload, Integer> mix(String text) {
+        Map<Workload, Integer> mix = new EnumMap<>(Workload.class);
+        for (String part : text.split(",")) {
+            String[] weight = part.split(":");
+            mix.put(Workload.valueOf(weight[0].trim().toUpperCase()), Integer.parseInt(weight[1].trim()));
+        }
+        return mix;
+    }
+
+    private static Double optionalDouble(String text) {
+        return text == null ? null : Double.valueOf(text);
+    }
+}
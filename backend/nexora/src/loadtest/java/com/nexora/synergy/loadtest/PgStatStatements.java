@@ -0,0 +1,85 @@
+package com.nexora.synergy.loadtest;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Statement counts from pg_stat_statements (the extension must be installed
+ * in the app's database and preloaded): snapshots of calls per normalized
+ * statement, diffed around a measurement window.
+ *
+ * Each call is one statement the app executed — one round trip, except for
+ * JDBC batches, which reach the server as one round trip but count once per
+ * statement. Our own snapshot queries are excluded.
+ */
+final class PgStatStatements implements AutoCloseable {
+
+    private static final String SNAPSHOT_SQL = """
+        SELECT queryid, calls, query FROM pg_stat_statements
+        WHERE dbid = (SELECT oid FROM pg_database WHERE datname = current_database())
+          AND query NOT LIKE '%pg_stat_statements%'
+        """;
+
+    private final Connection connection;
+
+    PgStatStatements(String url, String user, String password) throws SQLException {
+        this.connection = DriverManager.getConnection(url, user, password);
+    }
+
+    Map<Long, Entry> snapshot() throws SQLException {
+        Map<Long, Entry> entries = new HashMap<>();
+        try (Statement st = connection.createStatement(); ResultSet rs = st.executeQuery(SNAPSHOT_SQL)) {
+            while (rs.next()) {
+                entries.merge(rs.getLong(1), new Entry(rs.getString(3), rs.getLong(2)),
+                        (a, b) -> new Entry(a.query(), a.calls() + b.calls()));
+            }
+        }
+        return entries;
+    }
+
+    /** Calls made between two snapshots, busiest statements first. */
+    static List<Entry> diff(Map<Long, Entry> before, Map<Long, Entry> after) {
+        List<Entry> delta = new ArrayList<>();
+        after.forEach((queryId, entry) -> {
+            Entry prior = before.get(queryId);
+            long calls = entry.calls() - (prior != null ? prior.calls() : 0);
+            if (calls > 0) {
+                delta.add(new Entry(entry.query(), calls));
+            }
+        });
+        delta.sort((a, b) -> Long.compare(b.calls(), a.calls()));
+        return delta;
+    }
+
+    static long totalCalls(List<Entry> entries) {
+        return entries.stream().mapToLong(Entry::calls).sum();
+    }
+
+    static List<Map<String, Object>> top(List<Entry> entries, int limit) {
+        List<Map<String, Object>> top = new ArrayList<>();
+        for (Entry e : entries.subList(0, Math.min(limit, entries.size()))) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("calls", e.calls());
+            row.put("query", e.query().replaceAll("\\s+", " ").trim());
+            top.add(row);
+        }
+        return top;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        connection.close();
+    }
+
+    record Entry(String query, long calls) {
+
+    }
+}
@@ -0,0 +1,219 @@
+package com.nexora.synergy.loadtest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.nexora.synergy.platform.domain.shared.id.TimeOrderedIds;
+
+/**
+ * PrimaryKeyInsertLoadTest — insert throughput into a large table keyed by
+ * random (v4) vs time-ordered (v7) UUIDs, the way platform.outbox_messages,
+ * platform.tenants and platform.idempotency_records are keyed.
+ *
+ * Needs only Postgres (no running app); everything lives in a scratch
+ * schema that is dropped afterwards:
+ *
+ * <pre>
+ * mvn -Ploadtest test-compile exec:exec \
+ *     -Dloadtest.main=com.nexora.synergy.loadtest.PrimaryKeyInsertLoadTest \
+ *     -Dloadtest.args="--preload=5000000 --measure=1000000"
+ * </pre>
+ *
+ * Options (--name=value): --pg-url --pg-user --pg-password (defaults
+ * NEXORA_TEST_PG_URL / _USER / _PASSWORD), --preload=5000000 rows loaded
+ * before measuring, --measure=1000000 rows timed, --threads=8, --batch=500,
+ * --schema=pk_insert_bench, --report=target/pk-insert-report.json.
+ *
+ * Per key type the report has rows/s, WAL bytes per row
+ * (pg_current_wal_lsn delta — includes full-page images, which is where
+ * random keys hurt), primary-key index size and index blocks read from
+ * outside shared buffers while measuring.
+ */
+public final class PrimaryKeyInsertLoadTest {
+
+    private static final String PAYLOAD = "{\"tenantId\":\"" + UUID.randomUUID()
+            + "\",\"subdomain\":\"greenfield\",\"name\":\"Greenfield College\","
+            + "\"adminEmail\":\"admin@greenfield.edu\",\"status\":\"PENDING\"}";
+
+    private final Map<String, String> options;
+    private final String url;
+    private final Properties credentials = new Properties();
+    private final String schema;
+    private final int threads;
+    private final int batch;
+
+    private PrimaryKeyInsertLoadTest(Map<String, String> options) {
+        this.options = options;
+        this.url = options.getOrDefault("pg-url", System.getenv("NEXORA_TEST_PG_URL"));
+        if (url == null) {
+            throw new IllegalArgumentException("--pg-url or NEXORA_TEST_PG_URL is required");
+        }
+        String user = options.getOrDefault("pg-user", System.getenv("NEXORA_TEST_PG_USER"));
+        String password = options.getOrDefault("pg-password", System.getenv("NEXORA_TEST_PG_PASSWORD"));
+        if (user != null) {
+            credentials.setProperty("user", user);
+        }
+        if (password != null) {
+            credentials.setProperty("password", password);
+        }
+        credentials.setProperty("reWriteBatchedInserts", "true");
+        this.schema = options.getOrDefault("schema", "pk_insert_bench");
+        this.threads = Integer.parseInt(options.getOrDefault("threads", "8"));
+        this.batch = Integer.parseInt(options.getOrDefault("batch", "500"));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        Path reportPath = Path.of(options.getOrDefault("report", "target/pk-insert-report.json"));
+
+        Map<String, Object> report = new PrimaryKeyInsertLoadTest(options).run();
+
+        ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        Files.createDirectories(reportPath.toAbsolutePath().getParent());
+        mapper.writeValue(reportPath.toFile(), report);
+        System.out.println("Report: " + reportPath.toAbsolutePath());
+        System.out.println(mapper.writeValueAsString(report.get("results")));
+    }
+
+    private Map<String, Object> run() throws Exception {
+        long preload = Long.parseLong(options.getOrDefault("preload", "5000000"));
+        long measure = Long.parseLong(options.getOrDefault("measure", "1000000"));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        Map<String, Object> run = new LinkedHashMap<>();
+        run.put("startedAt", Instant.now().toString());
+        run.put("preloadRows", preload);
+        run.put("measuredRows", measure);
+        run.put("threads", threads);
+        run.put("batch", batch);
+        report.put("run", run);
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        try (Connection admin = DriverManager.getConnection(url, credentials)) {
+            execute(admin, "DROP SCHEMA IF EXISTS " + schema + " CASCADE");
+            execute(admin, "CREATE SCHEMA " + schema);
+            try {
+                results.put("v4", measure(admin, "random_v4", UUID::randomUUID, preload, measure));
+                results.put("v7", measure(admin, "time_ordered_v7", TimeOrderedIds::next, preload, measure));
+            } finally {
+                execute(admin, "DROP SCHEMA IF EXISTS " + schema + " CASCADE");
+            }
+        }
+        report.put("results", results);
+        return report;
+    }
+
+    private Map<String, Object> measure(Connection admin, String table, Supplier<UUID> keys,
+            long preload, long measure) throws Exception {
+        String qualified = schema + "." + table;
+        execute(admin, "CREATE TABLE " + qualified + " (id UUID PRIMARY KEY, created_at TIMESTAMPTZ NOT NULL,"
+                + " payload TEXT NOT NULL)");
+
+        System.out.println(table + ": preloading " + preload + " rows");
+        insert(qualified, keys, preload);
+        execute(admin, "VACUUM ANALYZE " + qualified);
+        execute(admin, "CHECKPOINT");
+
+        long indexBlocksReadBefore = indexBlocksRead(admin, table);
+        String walBefore = queryString(admin, "SELECT pg_current_wal_lsn()::text");
+        System.out.println(table + ": measuring " + measure + " rows");
+        long started = System.nanoTime();
+        insert(qualified, keys, measure);
+        double seconds = (System.nanoTime() - started) / 1e9;
+        long walBytes = queryLong(admin, "SELECT pg_wal_lsn_diff(pg_current_wal_lsn(), '" + walBefore + "')::bigint");
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("rowsPerSecond", Math.round(measure / seconds));
+        result.put("seconds", Math.round(seconds * 100) / 100.0);
+        result.put("walBytesPerRow", Math.round((double) walBytes / measure));
+        result.put("primaryKeyIndexBytes", queryLong(admin, "SELECT pg_relation_size('" + qualified + "_pkey')"));
+        result.put("indexBlocksRead", indexBlocksRead(admin, table) - indexBlocksReadBefore);
+        return result;
+    }
+
+    /** Inserts rows in JDBC batches from threads connections, one transaction per batch. */
+    private void insert(String table, Supplier<UUID> keys, long rows) throws Exception {
+        String sql = "INSERT INTO " + table + " (id, created_at, payload) VALUES (?, ?, ?)";
+        AtomicLong remaining = new AtomicLong(rows);
+        try (ExecutorService pool = Executors.newFixedThreadPool(threads)) {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                writers.add(pool.submit(() -> {
+                    try (Connection connection = DriverManager.getConnection(url, credentials);
+                            PreparedStatement insert = connection.prepareStatement(sql)) {
+                        connection.setAutoCommit(false);
+                        long claimed;
+                        while ((claimed = Math.min(batch, remaining.getAndAdd(-batch))) > 0) {
+                            Timestamp now = Timestamp.from(Instant.now());
+                            for (int i = 0; i < claimed; i++) {
+                                insert.setObject(1, keys.get());
+                                insert.setTimestamp(2, now);
+                                insert.setString(3, PAYLOAD);
+                                insert.addBatch();
+                            }
+                            insert.executeBatch();
+                            connection.commit();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        }
+    }
+
+    private long indexBlocksRead(Connection admin, String table) throws SQLException {
+        return queryLong(admin, "SELECT coalesce(idx_blks_read, 0) FROM pg_statio_user_indexes"
+                + " WHERE schemaname = '" + schema + "' AND indexrelname = '" + table + "_pkey'");
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            st.execute(sql);
+        }
+    }
+
+    private static long queryLong(Connection connection, String sql) throws SQLException {
+        try (Statement st = connection.createStatement(); ResultSet rs = st.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static String queryString(Connection connection, String sql) throws SQLException {
+        try (Statement st = connection.createStatement(); ResultSet rs = st.executeQuery(sql)) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+}
@@ -0,0 +1,335 @@
+package com.nexora.synergy.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * RegistrationLoadTest — closed-loop load against POST /nexora/tenants/register
+ * on a running app, with latency percentiles, throughput and DB statements per
+ * request written as a JSON report.
+ *
+ * Run the app against a throwaway local Postgres (every accepted registration
+ * provisions a schema), then:
+ *
+ * <pre>
+ * mvn -Ploadtest test-compile exec:exec -Dloadtest.args="--concurrency=64 --duration=2m --slo-p99-ms=250"
+ * </pre>
+ *
+ * Phases: 1. idle sample — statements/s the app issues on its own (dispatcher,
+ * schedulers), subtracted later 2. warmup — requests sent, not recorded 3.
+ * measurement — every request's latency recorded per workload, and the
+ * pg_stat_statements delta taken around it.
+ *
+ * Workloads (LoadTestOptions --mix): NEW registrations, idempotent REPLAYs of
+ * accepted ones, and subdomain CONFLICTs; REPLAY and CONFLICT need a prior
+ * accepted registration and fall back to NEW until one exists.
+ *
+ * The report has a stable layout so CI can diff it run to run; the process
+ * exits 1 when an --slo-* target is missed or requests got unexpected
+ * responses.
+ */
+public final class RegistrationLoadTest {
+
+    private static final int ACCEPTED_POOL_SIZE = 10_000;
+
+    private final LoadTestOptions options;
+    private final HttpClient client;
+    private final URI registerUri;
+    private final String runId;
+    private final AtomicLong sequence = new AtomicLong();
+    private final List<Registration> accepted = new ArrayList<>();
+
+    private RegistrationLoadTest(LoadTestOptions options) {
+        this.options = options;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.registerUri = options.baseUrl().resolve("/nexora/tenants/register");
+        this.runId = Long.toString(Math.abs(options.seed() ^ System.currentTimeMillis()) % 46_656L, 36);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        Map<String, Object> report = new RegistrationLoadTest(options).run();
+
+        Files.createDirectories(options.report().toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(options.report().toFile(), report);
+        System.out.println("Report: " + options.report().toAbsolutePath());
+        System.out.println(new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValueAsString(report.get("latency")));
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> slo = (Map<String, Object>) report.get("slo");
+        boolean passed = Boolean.TRUE.equals(slo.get("met"));
+        System.exit(passed ? 0 : 1);
+    }
+
+    private Map<String, Object> run() throws Exception {
+        PgStatStatements pg = options.pgUrl() != null
+                ? new PgStatStatements(options.pgUrl(), options.pgUser(), options.pgPassword())
+                : null;
+        try {
+            double backgroundPerSecond = 0;
+            if (pg != null) {
+                Map<Long, PgStatStatements.Entry> idleStart = pg.snapshot();
+                Thread.sleep(options.idleSample());
+                long idleCalls = PgStatStatements.totalCalls(PgStatStatements.diff(idleStart, pg.snapshot()));
+                backgroundPerSecond = idleCalls / (options.idleSample().toMillis() / 1000.0);
+            }
+
+            drive(options.warmup());
+
+            Map<Long, PgStatStatements.Entry> before = pg != null ? pg.snapshot() : null;
+            Instant startedAt = Instant.now();
+            long started = System.nanoTime();
+            List<Worker> workers = drive(options.duration());
+            double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+            List<PgStatStatements.Entry> statements = pg != null
+                    ? PgStatStatements.diff(before, pg.snapshot())
+                    : null;
+
+            return report(startedAt, elapsedSeconds, workers, statements, backgroundPerSecond);
+        } finally {
+            if (pg != null) {
+                pg.close();
+            }
+        }
+    }
+
+    /** Runs concurrency workers for the given time; returns their samples. */
+    private List<Worker> drive(Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Worker> workers = new ArrayList<>();
+        SplittableRandom seeds = new SplittableRandom(options.seed());
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> running = new ArrayList<>();
+            for (int i = 0; i < options.concurrency(); i++) {
+                Worker worker = new Worker(seeds.split(), deadline);
+                workers.add(worker);
+                running.add(threads.submit(() -> {
+                    worker.run();
+                    return null;
+                }));
+            }
+            for (Future<?> f : running) {
+                f.get();
+            }
+        }
+        return workers;
+    }
+
+    private Map<String, Object> report(Instant startedAt, double elapsedSeconds, List<Worker> workers,
+            List<PgStatStatements.Entry> statements, double backgroundPerSecond) {
+        LatencySamples all = new LatencySamples();
+        Map<Workload, LatencySamples> byWorkload = new EnumMap<>(Workload.class);
+        Map<Workload, Map<String, Long>> statuses = new EnumMap<>(Workload.class);
+        Map<Workload, Long> unexpected = new EnumMap<>(Workload.class);
+        for (Workload w : Workload.values()) {
+            byWorkload.put(w, new LatencySamples());
+            statuses.put(w, new TreeMap<>());
+            unexpected.put(w, 0L);
+        }
+        for (Worker worker : workers) {
+            for (Workload w : Workload.values()) {
+                byWorkload.get(w).addAll(worker.samples.get(w));
+                all.addAll(worker.samples.get(w));
+                worker.statuses.get(w).forEach((status, n) -> statuses.get(w).merge(status, n, Long::sum));
+                unexpected.merge(w, worker.unexpected.get(w), Long::sum);
+            }
+        }
+        long requests = all.size();
+        long unexpectedTotal = unexpected.values().stream().mapToLong(Long::longValue).sum();
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        Map<String, Object> run = new LinkedHashMap<>();
+        run.put("startedAt", startedAt.toString());
+        run.put("baseUrl", options.baseUrl().toString());
+        run.put("concurrency", options.concurrency());
+        run.put("warmupSeconds", options.warmup().toSeconds());
+        run.put("durationSeconds", options.duration().toSeconds());
+        run.put("mix", options.mix());
+        run.put("seed", options.seed());
+        report.put("run", run);
+
+        Map<String, Object> totals = new LinkedHashMap<>();
+        totals.put("requests", requests);
+        totals.put("unexpectedResponses", unexpectedTotal);
+        totals.put("throughputPerSecond", round(requests / elapsedSeconds));
+        report.put("totals", totals);
+
+        Map<String, Object> overall = all.summary();
+        Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("all", overall);
+        for (Workload w : Workload.values()) {
+            Map<String, Object> summary = byWorkload.get(w).summary();
+            summary.put("statuses", statuses.get(w));
+            summary.put("unexpected", unexpected.get(w));
+            latency.put(w.name().toLowerCase(), summary);
+        }
+        report.put("latency", latency);
+
+        Map<String, Object> db = new LinkedHashMap<>();
+        if (statements != null) {
+            long calls = PgStatStatements.totalCalls(statements);
+            double background = backgroundPerSecond * elapsedSeconds;
+            db.put("statements", calls);
+            db.put("backgroundStatementsPerSecond", round(backgroundPerSecond));
+            db.put("statementsPerRequest", requests == 0 ? 0 : round(Math.max(0, calls - background) / requests));
+            db.put("topStatements", PgStatStatements.top(statements, 15));
+        } else {
+            db.put("statementsPerRequest", null);
+            db.put("note", "no --pg-url / NEXORA_TEST_PG_URL: DB round trips not measured");
+        }
+        report.put("db", db);
+
+        Map<String, Object> slo = new LinkedHashMap<>();
+        boolean met = unexpectedTotal == 0;
+        if (options.sloP99Ms() != null) {
+            boolean ok = (double) overall.get("p99Ms") <= options.sloP99Ms();
+            slo.put("p99Ms", Map.of("target", options.sloP99Ms(), "actual", overall.get("p99Ms"), "met", ok));
+            met &= ok;
+        }
+        if (options.sloP999Ms() != null) {
+            boolean ok = (double) overall.get("p999Ms") <= options.sloP999Ms();
+            slo.put("p999Ms", Map.of("target", options.sloP999Ms(), "actual", overall.get("p999Ms"), "met", ok));
+            met &= ok;
+        }
+        slo.put("met", met);
+        report.put("slo", slo);
+        return report;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private Registration newRegistration() {
+        long n = sequence.incrementAndGet();
+        String subdomain = "lt-" + runId + "-" + n;
+        return new Registration(subdomain, UUID.randomUUID().toString(), """
+                {"institutionName":"Load Test College %d","subdomain":"%s","adminName":"Load Tester",\
+                "adminEmail":"admin+%d@loadtest.example","adminPhone":null}""".formatted(n, subdomain, n));
+    }
+
+    private void remember(Registration registration, SplittableRandom random) {
+        synchronized (accepted) {
+            if (accepted.size() < ACCEPTED_POOL_SIZE) {
+                accepted.add(registration);
+            } else {
+                accepted.set(random.nextInt(ACCEPTED_POOL_SIZE), registration);
+            }
+        }
+    }
+
+    private Registration anyAccepted(SplittableRandom random) {
+        synchronized (accepted) {
+            return accepted.isEmpty() ? null : accepted.get(random.nextInt(accepted.size()));
+        }
+    }
+
+    private HttpRequest request(Registration registration) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(registerUri)
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .header("X-Idempotency-Key", registration.idempotencyKey())
+                .POST(HttpRequest.BodyPublishers.ofString(registration.body()));
+        options.headers().forEach(builder::header);
+        return builder.build();
+    }
+
+    private record Registration(String subdomain, String idempotencyKey, String body) {
+
+        Registration conflicting() {
+            return new Registration(subdomain, UUID.randomUUID().toString(), body);
+        }
+    }
+
+    /** One closed-loop client: sends the next request as soon as the last one is answered. */
+    private final class Worker {
+
+        final Map<Workload, LatencySamples> samples = new EnumMap<>(Workload.class);
+        final Map<Workload, Map<String, Long>> statuses = new EnumMap<>(Workload.class);
+        final Map<Workload, Long> unexpected = new EnumMap<>(Workload.class);
+        private final SplittableRandom random;
+        private final long deadline;
+        private final int totalWeight;
+
+        Worker(SplittableRandom random, long deadline) {
+            this.random = random;
+            this.deadline = deadline;
+            this.totalWeight = options.mix().values().stream().mapToInt(Integer::intValue).sum();
+            for (Workload w : Workload.values()) {
+                samples.put(w, new LatencySamples());
+                statuses.put(w, new TreeMap<>());
+                unexpected.put(w, 0L);
+            }
+        }
+
+        void run() throws InterruptedException {
+            while (System.nanoTime() < deadline) {
+                Workload workload = pick();
+                Registration prior = workload == Workload.NEW ? null : anyAccepted(random);
+                if (prior == null) {
+                    workload = Workload.NEW;
+                }
+                Registration registration = switch (workload) {
+                    case NEW -> newRegistration();
+                    case REPLAY -> prior;
+                    case CONFLICT -> prior.conflicting();
+                };
+
+                long start = System.nanoTime();
+                int status;
+                try {
+                    status = client.send(request(registration), HttpResponse.BodyHandlers.discarding()).statusCode();
+                } catch (IOException e) {
+                    status = -1;
+                }
+                long latency = System.nanoTime() - start;
+
+                samples.get(workload).record(latency);
+                statuses.get(workload).merge(status < 0 ? "io-error" : Integer.toString(status), 1L, Long::sum);
+                if (!workload.isExpected(status)) {
+                    unexpected.merge(workload, 1L, Long::sum);
+                }
+                if (workload == Workload.NEW && status == 202) {
+                    remember(registration, random);
+                }
+            }
+        }
+
+        private Workload pick() {
+            int r = random.nextInt(totalWeight);
+            for (Map.Entry<Workload, Integer> weight : options.mix().entrySet()) {
+                r -= weight.getValue();
+                if (r < 0) {
+                    return weight.getKey();
+                }
+            }
+            return Workload.NEW;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.nexora.synergy.loadtest;
+
+/**
+ * The request kinds RegistrationLoadTest mixes, and what counts as the
+ * expected outcome of each.
+ */
+enum Workload {
+
+    /** Fresh subdomain and idempotency key — the full registration path. */
+    NEW,
+    /** Same key and body as an earlier accepted registration — served from the idempotency record. */
+    REPLAY,
+    /**
+     * Fresh key, subdomain of an earlier registration — rejected by the
+     * existsByDomain check, which ApiExceptionHandler maps to 409 Conflict.
+     * Anything else, a 5xx in particular, is a server error and counts as
+     * unexpected.
+     */
+    CONFLICT;
+
+    boolean isExpected(int status) {
+        return switch (this) {
+            case NEW, REPLAY -> status == 202;
+            case CONFLICT -> status == 409;
+        };
+    }
+}
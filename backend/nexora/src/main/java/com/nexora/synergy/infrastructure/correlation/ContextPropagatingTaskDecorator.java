@@ -0,0 +1,19 @@
+package com.nexora.synergy.infrastructure.correlation;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Carries the submitting thread's ContextSnapshot into tasks run by Spring
+ * executors. Spring Boot applies a single TaskDecorator bean to its
+ * auto-configured applicationTaskExecutor — platform or virtual threads
+ * (spring.threads.virtual.enabled) alike.
+ */
+@Component
+public class ContextPropagatingTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        return ContextSnapshot.capture().wrap(runnable);
+    }
+}
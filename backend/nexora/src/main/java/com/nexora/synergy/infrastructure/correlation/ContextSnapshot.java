@@ -0,0 +1,83 @@
+package com.nexora.synergy.infrastructure.correlation;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import org.slf4j.MDC;
+
+import com.nexora.synergy.infrastructure.tenancy.TenantContext;
+import com.nexora.synergy.platform.domain.model.TenantRoute;
+
+/**
+ * ContextSnapshot — the request context of the submitting thread (correlation
+ * ID, MDC, TenantContext), captured at submit time and installed around the
+ * task on whichever thread runs it.
+ *
+ * Works the same for pooled platform threads and virtual threads: the
+ * executing thread's previous context is restored afterwards, so a pooled
+ * thread never leaks one task's context into the next.
+ *
+ * <pre>
+ * executor.submit(ContextSnapshot.capture().wrap(() -> ...));
+ * </pre>
+ */
+public final class ContextSnapshot {
+
+    private final String correlationId;
+    private final Map<String, String> mdc;
+    private final TenantRoute tenant;
+
+    private ContextSnapshot(String correlationId, Map<String, String> mdc, TenantRoute tenant) {
+        this.correlationId = correlationId;
+        this.mdc = mdc;
+        this.tenant = tenant;
+    }
+
+    public static ContextSnapshot capture() {
+        return new ContextSnapshot(CorrelationContext.current().orElse(null), MDC.getCopyOfContextMap(),
+                TenantContext.current().orElse(null));
+    }
+
+    public Runnable wrap(Runnable task) {
+        return () -> {
+            ContextSnapshot previous = install();
+            try {
+                task.run();
+            } finally {
+                previous.install();
+            }
+        };
+    }
+
+    public <T> Callable<T> wrap(Callable<T> task) {
+        return () -> {
+            ContextSnapshot previous = install();
+            try {
+                return task.call();
+            } finally {
+                previous.install();
+            }
+        };
+    }
+
+    /** Installs this snapshot on the current thread; returns what it replaced. */
+    private ContextSnapshot install() {
+        ContextSnapshot previous = capture();
+        if (mdc != null) {
+            MDC.setContextMap(mdc);
+        } else {
+            MDC.clear();
+        }
+        if (correlationId != null) {
+            CorrelationContext.set(correlationId);
+        } else {
+            CorrelationContext.clear();
+        }
+        if (tenant != null) {
+            TenantContext.set(tenant);
+        } else {
+            TenantContext.clear();
+        }
+        return previous;
+    }
+}
@@ -1,46 +1,98 @@
 package com.nexora.synergy.infrastructure.correlation;
 
-import java.util.UUID;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import com.nexora.synergy.platform.domain.shared.id.TimeOrderedIds;
 
 /**
  * CorrelationContext — thread-local distributed trace ID.
  *
  * AWS Equivalent: X-Ray Trace ID propagated across service boundaries.
  *
- * Every HTTP request gets a unique X-Correlation-ID. This ID propagates
- * through: - All log entries (via MDC) - All domain events (correlationId
- * field) - All outbox messages - All async provisioning operations
+ * Every HTTP request gets a unique X-Correlation-ID (CorrelationIdFilter). This
+ * ID propagates through: - All log entries (via MDC, key "correlationId") -
+ * All domain events (correlationId field) - All outbox messages - All async
+ * provisioning operations
  *
  * This means you can grep logs by correlationId and see the complete story of a
  * tenant registration across all layers.
+ *
+ * The ID lives on the thread (platform or virtual) that set it. Work handed to
+ * an executor carries it only if submitted through ContextSnapshot (or an
+ * executor decorated with ContextPropagatingTaskDecorator).
  */
 public final class CorrelationContext {
 
+    public static final String MDC_KEY = "correlationId";
+
+    private static final Logger log = LoggerFactory.getLogger(CorrelationContext.class);
+
     private static final ThreadLocal<String> CORRELATION_ID = new ThreadLocal<>();
 
     private CorrelationContext() {
     }
 
     public static void set(String correlationId) {
+        if (correlationId == null) {
+            clear();
+            return;
+        }
         CORRELATION_ID.set(correlationId);
+        MDC.put(MDC_KEY, correlationId);
     }
 
+    /** The ID bound to this thread, if any. */
+    public static Optional<String> current() {
+        return Optional.ofNullable(CORRELATION_ID.get());
+    }
+
+    /**
+     * The ID bound to this thread; without one (work that lost its context),
+     * a fresh ID — logged, since it breaks the trace.
+     */
     public static String get() {
         String id = CORRELATION_ID.get();
-        return id != null ? id : generate();
+        if (id != null) {
+            return id;
+        }
+        String generated = generate();
+        log.debug("CorrelationContext.missing: thread={} generated={}", Thread.currentThread(), generated);
+        return generated;
     }
 
+    /**
+     * Binds the caller-supplied ID, or a fresh one when it is missing or not
+     * a plausible ID (it ends up in logs and in outbox correlation_id, max
+     * 100 chars).
+     */
     public static void setOrGenerate(String headerValue) {
-        CORRELATION_ID.set(headerValue != null && !headerValue.isBlank()
-                ? headerValue
-                : generate());
+        set(isValid(headerValue) ? headerValue : generate());
     }
 
     public static void clear() {
         CORRELATION_ID.remove();
+        MDC.remove(MDC_KEY);
+    }
+
+    private static boolean isValid(String id) {
+        if (id == null || id.isBlank() || id.length() > 100) {
+            return false;
+        }
+        for (int i = 0; i < id.length(); i++) {
+            char c = id.charAt(i);
+            if (!(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9'
+                    || c == '-' || c == '_' || c == '.' || c == ':')) {
+                return false;
+            }
+        }
+        return true;
     }
 
     private static String generate() {
-        return "zs-" + UUID.randomUUID().toString().replace("-", "").substring(0, 16);
+        return TimeOrderedIds.nextString("zs-");
     }
 }
@@ -0,0 +1,39 @@
+package com.nexora.synergy.infrastructure.correlation;
+
+import java.io.IOException;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * CorrelationIdFilter — binds X-Correlation-ID (or a fresh ID) to the request
+ * thread for the whole request and echoes it in the response.
+ *
+ * Runs before every other filter so tenant resolution, security and the
+ * controllers all log under the request's ID.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CorrelationIdFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Correlation-ID";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain chain) throws ServletException, IOException {
+        CorrelationContext.setOrGenerate(request.getHeader(HEADER));
+        response.setHeader(HEADER, CorrelationContext.get());
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            CorrelationContext.clear();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.nexora.synergy.infrastructure.outbox;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Read model of one DEAD_LETTER outbox row — everything an operator needs to
+ * decide on a redrive, without the payload.
+ */
+public record DeadLetter(
+        UUID id,
+        String aggregateType,
+        String aggregateId,
+        String eventType,
+        int retryCount,
+        String lastError,
+        Instant createdAt
+        ) {
+
+}
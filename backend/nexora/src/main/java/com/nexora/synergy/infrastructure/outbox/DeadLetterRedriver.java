@@ -0,0 +1,211 @@
+package com.nexora.synergy.infrastructure.outbox;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * DeadLetterRedriver — bulk DEAD_LETTER → PENDING jobs, throttled.
+ *
+ * AWS Equivalent: SQS StartMessageMoveTask with MaxNumberOfMessagesPerSecond.
+ *
+ * A job walks the matching dead letters page by page (keyset) and redrives
+ * them in chunks of chunk-size. Before each chunk it takes that many tokens
+ * from ONE token bucket shared by all jobs on this node (rate-per-second,
+ * bursts up to chunk-size), so however large the redrive, the dispatcher and
+ * the provisioning consumers behind it see at most rate-per-second new
+ * messages. Jobs run one at a time; cancel() stops a job after its current
+ * chunk. Finished jobs stay queryable for job-retention-minutes, then are
+ * forgotten.
+ *
+ * Metrics: outbox.redrive.messages (counter), outbox.redrive.throttled
+ * (timer, time spent waiting for tokens), outbox.redrive.jobs.active (gauge).
+ * Per-job progress: status(jobId).
+ */
+@Component
+public class DeadLetterRedriver {
+
+    private static final Logger log = LoggerFactory.getLogger(DeadLetterRedriver.class);
+
+    public enum JobStatus {
+        QUEUED, RUNNING, COMPLETED, CANCELLED, FAILED
+    }
+
+    private final DeadLetterStore deadLetterStore;
+    private final TokenBucket tokenBucket;
+    private final int chunkSize;
+    private final Duration jobRetention;
+    private final ExecutorService jobRunner = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("outbox-redrive").daemon().factory());
+    private final Map<UUID, Job> jobs = new ConcurrentHashMap<>();
+    private final AtomicInteger activeJobs = new AtomicInteger();
+    private final Counter redrivenCounter;
+    private final Timer throttledTimer;
+
+    public DeadLetterRedriver(
+            DeadLetterStore deadLetterStore,
+            MeterRegistry meterRegistry,
+            @Value("${zappschool.outbox.redrive.rate-per-second:50}") double ratePerSecond,
+            @Value("${zappschool.outbox.redrive.chunk-size:25}") int chunkSize,
+            @Value("${zappschool.outbox.redrive.job-retention-minutes:60}") long jobRetentionMinutes
+    ) {
+        this.deadLetterStore = deadLetterStore;
+        this.tokenBucket = new TokenBucket(ratePerSecond, chunkSize);
+        this.chunkSize = chunkSize;
+        this.jobRetention = Duration.ofMinutes(jobRetentionMinutes);
+        this.redrivenCounter = meterRegistry.counter("outbox.redrive.messages");
+        this.throttledTimer = meterRegistry.timer("outbox.redrive.throttled");
+        Gauge.builder("outbox.redrive.jobs.active", activeJobs, AtomicInteger::get).register(meterRegistry);
+    }
+
+    /**
+     * Queues a redrive of every dead letter matching the filters (null = any),
+     * at most maxMessages (null = all).
+     */
+    public JobProgress submit(String eventType, String aggregateId, Integer maxMessages) {
+        pruneFinished();
+        Job job = new Job(UUID.randomUUID(), eventType, aggregateId, maxMessages);
+        jobs.put(job.id, job);
+        activeJobs.incrementAndGet();
+        jobRunner.submit(() -> run(job));
+        log.info("DeadLetterRedrive.submitted: jobId={} eventType={} aggregateId={} maxMessages={}",
+                job.id, eventType, aggregateId, maxMessages);
+        return job.progress();
+    }
+
+    public Optional<JobProgress> status(UUID jobId) {
+        pruneFinished();
+        return Optional.ofNullable(jobs.get(jobId)).map(Job::progress);
+    }
+
+    public Collection<JobProgress> jobs() {
+        pruneFinished();
+        return jobs.values().stream().map(Job::progress).toList();
+    }
+
+    public Optional<JobProgress> cancel(UUID jobId) {
+        Job job = jobs.get(jobId);
+        if (job == null) {
+            return Optional.empty();
+        }
+        job.cancelled = true;
+        return Optional.of(job.progress());
+    }
+
+    private void pruneFinished() {
+        Instant expired = Instant.now().minus(jobRetention);
+        jobs.values().removeIf(job -> job.finishedAt != null && !job.finishedAt.isAfter(expired));
+    }
+
+    private void run(Job job) {
+        job.status.set(JobStatus.RUNNING);
+        job.startedAt = Instant.now();
+        try {
+            DeadLetterStore.Cursor cursor = null;
+            while (!job.cancelled && !job.limitReached()) {
+                List<DeadLetter> page = deadLetterStore.findPage(job.eventType, job.aggregateId, cursor,
+                        job.nextChunkSize(chunkSize));
+                if (page.isEmpty()) {
+                    break;
+                }
+                throttledTimer.record(tokenBucket.acquire(page.size()), TimeUnit.NANOSECONDS);
+                int redriven = deadLetterStore.redrive(page.stream().map(DeadLetter::id).toList());
+                job.scanned.addAndGet(page.size());
+                job.redriven.addAndGet(redriven);
+                redrivenCounter.increment(redriven);
+                cursor = DeadLetterStore.Cursor.of(page.get(page.size() - 1));
+            }
+            job.status.set(job.cancelled ? JobStatus.CANCELLED : JobStatus.COMPLETED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.status.set(JobStatus.CANCELLED);
+        } catch (RuntimeException e) {
+            job.error = e.getMessage();
+            job.status.set(JobStatus.FAILED);
+            log.error("DeadLetterRedrive.failed: jobId={} redriven={} error={}", job.id, job.redriven.get(),
+                    e.getMessage());
+        } finally {
+            job.finishedAt = Instant.now();
+            activeJobs.decrementAndGet();
+            log.info("DeadLetterRedrive.finished: jobId={} status={} redriven={} scanned={}",
+                    job.id, job.status.get(), job.redriven.get(), job.scanned.get());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        jobs.values().forEach(job -> job.cancelled = true);
+        jobRunner.shutdownNow();
+    }
+
+    public record JobProgress(
+            UUID jobId,
+            JobStatus status,
+            String eventType,
+            String aggregateId,
+            Integer maxMessages,
+            int scanned,
+            int redriven,
+            Instant startedAt,
+            Instant finishedAt,
+            String error
+            ) {
+
+    }
+
+    private static final class Job {
+
+        final UUID id;
+        final String eventType;
+        final String aggregateId;
+        final Integer maxMessages;
+        final AtomicReference<JobStatus> status = new AtomicReference<>(JobStatus.QUEUED);
+        final AtomicInteger scanned = new AtomicInteger();
+        final AtomicInteger redriven = new AtomicInteger();
+        volatile boolean cancelled;
+        volatile Instant startedAt;
+        volatile Instant finishedAt;
+        volatile String error;
+
+        Job(UUID id, String eventType, String aggregateId, Integer maxMessages) {
+            this.id = id;
+            this.eventType = eventType;
+            this.aggregateId = aggregateId;
+            this.maxMessages = maxMessages;
+        }
+
+        boolean limitReached() {
+            return maxMessages != null && scanned.get() >= maxMessages;
+        }
+
+        int nextChunkSize(int chunkSize) {
+            return maxMessages == null ? chunkSize : Math.min(chunkSize, maxMessages - scanned.get());
+        }
+
+        JobProgress progress() {
+            return new JobProgress(id, status.get(), eventType, aggregateId, maxMessages,
+                    scanned.get(), redriven.get(), startedAt, finishedAt, error);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.nexora.synergy.infrastructure.outbox;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+/**
+ * DeadLetterStore — reads and redrives DEAD_LETTER outbox rows.
+ *
+ * AWS Equivalent: SQS dead-letter queue + StartMessageMoveTask.
+ *
+ * Pages are keyset-paginated on (created_at, id): each page is an index range
+ * scan starting after the last row of the previous page, as cheap on page
+ * 1000 as on page 1 (no OFFSET), and stable while rows are being redriven.
+ */
+@Component
+public class DeadLetterStore {
+
+    private static final RowMapper<DeadLetter> ROW_MAPPER = (rs, i) -> new DeadLetter(
+            rs.getObject("id", UUID.class),
+            rs.getString("aggregate_type"),
+            rs.getString("aggregate_id"),
+            rs.getString("event_type"),
+            rs.getInt("retry_count"),
+            rs.getString("last_error"),
+            rs.getTimestamp("created_at").toInstant());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OutboxNotifier outboxNotifier;
+    private final OutboxMetrics outboxMetrics;
+
+    public DeadLetterStore(JdbcTemplate jdbcTemplate, OutboxNotifier outboxNotifier, OutboxMetrics outboxMetrics) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.outboxNotifier = outboxNotifier;
+        this.outboxMetrics = outboxMetrics;
+    }
+
+    /**
+     * @param after last row of the previous page, or null for the first page
+     */
+    public List<DeadLetter> findPage(String eventType, String aggregateId, Cursor after, int limit) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT id, aggregate_type, aggregate_id, event_type, retry_count, last_error, created_at
+                FROM platform.outbox_messages
+                WHERE status = 'DEAD_LETTER'
+                """);
+        List<Object> args = new ArrayList<>();
+        if (eventType != null) {
+            sql.append(" AND event_type = ?");
+            args.add(eventType);
+        }
+        if (aggregateId != null) {
+            sql.append(" AND aggregate_id = ?");
+            args.add(aggregateId);
+        }
+        if (after != null) {
+            sql.append(" AND (created_at, id) > (?, ?)");
+            args.add(Timestamp.from(after.createdAt()));
+            args.add(after.id());
+        }
+        sql.append(" ORDER BY created_at, id LIMIT ?");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), ROW_MAPPER, args.toArray());
+    }
+
+    /**
+     * DEAD_LETTER → PENDING with a fresh retry budget, due now. Rows that are
+     * no longer DEAD_LETTER are left alone.
+     *
+     * @return number of rows redriven
+     */
+    public int redrive(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int redriven = jdbcTemplate.update("""
+                UPDATE platform.outbox_messages
+                SET status = 'PENDING', retry_count = 0, next_retry_at = now()
+                WHERE id = ANY (?::uuid[]) AND status = 'DEAD_LETTER'
+                """, (Object) ids.stream().map(UUID::toString).toArray(String[]::new));
+        if (redriven > 0) {
+            outboxMetrics.redriven(redriven);
+            outboxNotifier.signalPending();
+        }
+        return redriven;
+    }
+
+    /** Keyset position: the (created_at, id) of the last row already seen. */
+    public record Cursor(Instant createdAt, UUID id) {
+
+        public static Cursor of(DeadLetter last) {
+            return new Cursor(last.createdAt(), last.id());
+        }
+    }
+}
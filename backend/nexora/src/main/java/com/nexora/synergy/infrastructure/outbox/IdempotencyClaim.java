@@ -0,0 +1,24 @@
+package com.nexora.synergy.infrastructure.outbox;
+
+/**
+ * Result of IdempotencyRepository.claim — the state of the key after the
+ * upsert.
+ *
+ * claimed = true: this request inserted the key (or took over an expired
+ * one) and owns it as IN_PROGRESS. claimed = false: the key belongs to an
+ * earlier request — status and responsePayload are that request's.
+ */
+public interface IdempotencyClaim {
+
+    String getStatus();
+
+    String getResponsePayload();
+
+    long getExpiresAtEpochMs();
+
+    boolean isClaimed();
+
+    default boolean isComplete() {
+        return IdempotencyStore.IdempotencyStatus.COMPLETE.name().equals(getStatus());
+    }
+}
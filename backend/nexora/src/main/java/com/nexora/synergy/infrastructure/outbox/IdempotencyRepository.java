@@ -1,7 +1,11 @@
 package com.nexora.synergy.infrastructure.outbox;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -9,4 +13,53 @@ import java.util.UUID;
 public interface IdempotencyRepository extends JpaRepository<IdempotencyStore, UUID> {
 
     Optional<IdempotencyStore> findByIdempotencyKey(String idempotencyKey);
+
+    /**
+     * Claims a key in ONE statement: inserts it as IN_PROGRESS, or takes over
+     * the row if it has expired; otherwise returns the existing row unchanged
+     * (claimed = false).
+     *
+     * Concurrent duplicates serialize on the unique index instead of failing
+     * at commit. A loser that raced a not-yet-committed claim gets no row at
+     * all (the existing row is newer than this statement's snapshot) — treat
+     * that as in progress.
+     */
+    @Query(value = """
+        WITH claimed AS (
+            INSERT INTO platform.idempotency_records
+                (id, idempotency_key, operation, status, response_payload, created_at, expires_at)
+            VALUES (:id, :key, :operation, 'IN_PROGRESS', NULL, now(), :expiresAt)
+            ON CONFLICT (idempotency_key) DO UPDATE
+                SET operation = EXCLUDED.operation,
+                    status = 'IN_PROGRESS',
+                    response_payload = NULL,
+                    created_at = EXCLUDED.created_at,
+                    expires_at = EXCLUDED.expires_at
+                WHERE platform.idempotency_records.expires_at < now()
+            RETURNING status, response_payload, expires_at
+        )
+        SELECT status AS "status", response_payload AS "responsePayload",
+               (extract(epoch FROM expires_at) * 1000)::bigint AS "expiresAtEpochMs", true AS "claimed"
+        FROM claimed
+        UNION ALL
+        SELECT status, response_payload, (extract(epoch FROM expires_at) * 1000)::bigint, false
+        FROM platform.idempotency_records
+        WHERE idempotency_key = :key AND NOT EXISTS (SELECT 1 FROM claimed)
+        """, nativeQuery = true)
+    Optional<IdempotencyClaim> claim(
+            @Param("id") UUID id,
+            @Param("key") String idempotencyKey,
+            @Param("operation") String operation,
+            @Param("expiresAt") Instant expiresAt);
+
+    /**
+     * IN_PROGRESS → COMPLETE for a key claimed by this transaction.
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE platform.idempotency_records
+        SET status = 'COMPLETE', response_payload = :payload
+        WHERE idempotency_key = :key AND status = 'IN_PROGRESS'
+        """, nativeQuery = true)
+    int complete(@Param("key") String idempotencyKey, @Param("payload") String responsePayload);
 }
@@ -5,6 +5,8 @@ import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
+import com.nexora.synergy.platform.domain.shared.id.TimeOrderedIds;
+
 /**
  * IdempotencyStore — prevents duplicate API calls from creating duplicate
  * tenants.
@@ -50,7 +52,7 @@ public class IdempotencyStore {
 
     public static IdempotencyStore createInProgress(String idempotencyKey, String operation, long ttlMinutes) {
         IdempotencyStore rec = new IdempotencyStore();
-        rec.id = UUID.randomUUID();
+        rec.id = TimeOrderedIds.next();
         rec.idempotencyKey = idempotencyKey;
         rec.operation = operation;
         rec.status = IdempotencyStatus.IN_PROGRESS;
@@ -92,6 +94,10 @@ public class IdempotencyStore {
         return operation;
     }
 
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
     public enum IdempotencyStatus {
         IN_PROGRESS, COMPLETE
     }
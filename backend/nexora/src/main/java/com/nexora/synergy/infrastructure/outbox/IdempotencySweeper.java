@@ -0,0 +1,75 @@
+package com.nexora.synergy.infrastructure.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * IdempotencySweeper — deletes expired platform.idempotency_records.
+ *
+ * AWS Equivalent: DynamoDB TTL deletion.
+ *
+ * Expired keys are otherwise only reclaimed when the same key comes back.
+ * Each run deletes oldest-first in batches of batch-size, each batch its own
+ * short statement, up to max-batches per run. FOR UPDATE SKIP LOCKED: a row a
+ * live registration is taking over right now is simply left for the next run.
+ *
+ * Metrics: idempotency.sweep.deleted (counter), idempotency.sweep.duration
+ * (timer).
+ */
+@Component
+public class IdempotencySweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencySweeper.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final int maxBatches;
+
+    public IdempotencySweeper(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${zappschool.idempotency.sweep.batch-size:1000}") int batchSize,
+            @Value("${zappschool.idempotency.sweep.max-batches:50}") int maxBatches
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+    }
+
+    @Scheduled(
+            initialDelayString = "${zappschool.idempotency.sweep.interval-ms:60000}",
+            fixedDelayString = "${zappschool.idempotency.sweep.interval-ms:60000}")
+    public void sweep() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int total = 0;
+        int deleted;
+        int batches = 0;
+        do {
+            deleted = jdbcTemplate.update("""
+                    DELETE FROM platform.idempotency_records
+                    WHERE id IN (
+                        SELECT id FROM platform.idempotency_records
+                        WHERE expires_at < now()
+                        ORDER BY expires_at
+                        LIMIT ?
+                        FOR UPDATE SKIP LOCKED)
+                    """, batchSize);
+            total += deleted;
+            batches++;
+        } while (deleted == batchSize && batches < maxBatches);
+        sample.stop(meterRegistry.timer("idempotency.sweep.duration"));
+        meterRegistry.counter("idempotency.sweep.deleted").increment(total);
+        if (total > 0) {
+            log.info("IdempotencySweeper.swept: deleted={} batches={}", total, batches);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.nexora.synergy.infrastructure.outbox;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * OutboxArchiver — moves PROCESSED outbox messages out of the hot table.
+ *
+ * AWS Equivalent: S3 lifecycle transition to a colder storage class.
+ *
+ * One run: 1. Create the daily archive partitions the next rows will land in,
+ * one node at a time (advisory lock); rows that reached the DEFAULT partition
+ * for want of one are moved into it 2. Move PROCESSED rows older than retention-hours in batches — each batch is
+ * ONE statement (DELETE ... RETURNING feeding an INSERT), so a row is either
+ * in the hot table or in the archive, never both or neither; SKIP LOCKED keeps
+ * it out of the dispatcher's way 3. Drop archive partitions older than
+ * archive-retention-days (a metadata operation, no row-by-row delete)
+ *
+ * SUPERSEDED rows (compaction) were never published and are not archived:
+ * once older than retention-hours they are deleted, in the same batches.
+ *
+ * Metrics: outbox.archive.moved, outbox.archive.superseded.deleted,
+ * outbox.archive.partitions.dropped, outbox.archive.duration.
+ */
+@Component
+public class OutboxArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxArchiver.class);
+
+    private static final String PARTITION_PREFIX = "outbox_messages_archive_";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd");
+    static final String DEFAULT_PARTITION = "outbox_messages_archive_default";
+    private static final String ARCHIVE_COLUMNS = "id, aggregate_type, aggregate_id, event_type, payload,"
+            + " payload_bytes, content_type, correlation_id, idempotency_key, retry_count, created_at,"
+            + " processed_at, archived_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final OutboxMetrics outboxMetrics;
+    private final Duration retention;
+    private final int archiveRetentionDays;
+    private final int batchSize;
+    private final int maxBatches;
+
+    public OutboxArchiver(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            OutboxMetrics outboxMetrics,
+            @Value("${zappschool.outbox.archive.retention-hours:24}") long retentionHours,
+            @Value("${zappschool.outbox.archive.archive-retention-days:30}") int archiveRetentionDays,
+            @Value("${zappschool.outbox.archive.batch-size:5000}") int batchSize,
+            @Value("${zappschool.outbox.archive.max-batches:20}") int maxBatches
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.outboxMetrics = outboxMetrics;
+        this.retention = Duration.ofHours(retentionHours);
+        this.archiveRetentionDays = archiveRetentionDays;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+    }
+
+    @Scheduled(
+            initialDelayString = "${zappschool.outbox.archive.interval-ms:300000}",
+            fixedDelayString = "${zappschool.outbox.archive.interval-ms:300000}")
+    public void archive() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Instant cutoff = Instant.now().minus(retention);
+
+        createPartitions(cutoff);
+        int moved = moveProcessed(cutoff);
+        int purged = deleteSuperseded(cutoff);
+        int dropped = dropExpiredPartitions();
+
+        sample.stop(meterRegistry.timer("outbox.archive.duration"));
+        if (moved > 0 || purged > 0 || dropped > 0) {
+            log.info("OutboxArchiver.run: moved={} supersededDeleted={} partitionsDropped={} cutoff={}",
+                    moved, purged, dropped, cutoff);
+        }
+    }
+
+    private void createPartitions(Instant cutoff) {
+        transactionTemplate.executeWithoutResult(tx -> {
+            // Two nodes creating the same partition collide in the catalog; the
+            // second waits here and then finds it already there.
+            jdbcTemplate.queryForObject(
+                    "SELECT pg_advisory_xact_lock(hashtext('platform.outbox_messages_archive'))", Object.class);
+            List<LocalDate> days = jdbcTemplate.queryForList("""
+                    SELECT DISTINCT (processed_at AT TIME ZONE 'UTC')::date
+                    FROM platform.outbox_messages
+                    WHERE status = 'PROCESSED' AND processed_at < ?
+                    """, LocalDate.class, cutoff);
+            for (LocalDate day : days) {
+                createPartition(day);
+            }
+        });
+    }
+
+    private void createPartition(LocalDate day) {
+        String partition = PARTITION_PREFIX + day.format(PARTITION_SUFFIX);
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT to_regclass(?) IS NOT NULL", Boolean.class, "platform." + partition))) {
+            return;
+        }
+        String create = "CREATE TABLE platform." + partition
+                + " PARTITION OF platform.outbox_messages_archive FOR VALUES FROM ('"
+                + day + " 00:00:00+00') TO ('" + day.plusDays(1) + " 00:00:00+00')";
+        Instant from = day.atStartOfDay(ZoneOffset.UTC).toInstant();
+        Instant to = day.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+        boolean stray = Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM platform." + DEFAULT_PARTITION
+                        + " WHERE processed_at >= ? AND processed_at < ?)", Boolean.class, from, to));
+        if (!stray) {
+            jdbcTemplate.execute(create);
+            return;
+        }
+        // Postgres refuses a partition whose rows sit in the default one: take the
+        // default out, add the partition, move the rows across, put it back.
+        jdbcTemplate.execute("ALTER TABLE platform.outbox_messages_archive DETACH PARTITION platform."
+                + DEFAULT_PARTITION);
+        jdbcTemplate.execute(create);
+        int moved = jdbcTemplate.update("INSERT INTO platform." + partition + " (" + ARCHIVE_COLUMNS + ")"
+                + " SELECT " + ARCHIVE_COLUMNS + " FROM platform." + DEFAULT_PARTITION
+                + " WHERE processed_at >= ? AND processed_at < ?", from, to);
+        jdbcTemplate.update("DELETE FROM platform." + DEFAULT_PARTITION
+                + " WHERE processed_at >= ? AND processed_at < ?", from, to);
+        jdbcTemplate.execute("ALTER TABLE platform.outbox_messages_archive ATTACH PARTITION platform."
+                + DEFAULT_PARTITION + " DEFAULT");
+        log.warn("OutboxArchiver.defaultPartitionDrained: partition={} rows={}", partition, moved);
+    }
+
+    private int moveProcessed(Instant cutoff) {
+        int total = 0;
+        int moved;
+        int batches = 0;
+        do {
+            moved = jdbcTemplate.update("""
+                    WITH moved AS (
+                        DELETE FROM platform.outbox_messages
+                        WHERE id IN (
+                            SELECT id FROM platform.outbox_messages
+                            WHERE status = 'PROCESSED' AND processed_at < ?
+                            ORDER BY processed_at
+                            LIMIT ?
+                            FOR UPDATE SKIP LOCKED)
+                        RETURNING id, aggregate_type, aggregate_id, event_type, payload, payload_bytes,
+                                  content_type, correlation_id, idempotency_key, retry_count, created_at,
+                                  processed_at
+                    )
+                    INSERT INTO platform.outbox_messages_archive
+                        (id, aggregate_type, aggregate_id, event_type, payload, payload_bytes, content_type,
+                         correlation_id, idempotency_key, retry_count, created_at, processed_at)
+                    SELECT id, aggregate_type, aggregate_id, event_type, payload, payload_bytes, content_type,
+                           correlation_id, idempotency_key, retry_count, created_at, processed_at
+                    FROM moved
+                    """, cutoff, batchSize);
+            total += moved;
+            batches++;
+        } while (moved == batchSize && batches < maxBatches);
+        meterRegistry.counter("outbox.archive.moved").increment(total);
+        outboxMetrics.removed(OutboxMessage.OutboxStatus.PROCESSED, total);
+        return total;
+    }
+
+    private int deleteSuperseded(Instant cutoff) {
+        int total = 0;
+        int deleted;
+        int batches = 0;
+        do {
+            deleted = jdbcTemplate.update("""
+                    DELETE FROM platform.outbox_messages
+                    WHERE id IN (
+                        SELECT id FROM platform.outbox_messages
+                        WHERE status = 'SUPERSEDED' AND processed_at < ?
+                        LIMIT ?
+                        FOR UPDATE SKIP LOCKED)
+                    """, cutoff, batchSize);
+            total += deleted;
+            batches++;
+        } while (deleted == batchSize && batches < maxBatches);
+        meterRegistry.counter("outbox.archive.superseded.deleted").increment(total);
+        outboxMetrics.removed(OutboxMessage.OutboxStatus.SUPERSEDED, total);
+        return total;
+    }
+
+    private int dropExpiredPartitions() {
+        LocalDate oldestKept = LocalDate.now(ZoneOffset.UTC).minusDays(archiveRetentionDays);
+        List<String> partitions = jdbcTemplate.queryForList("""
+                SELECT c.relname FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = 'platform.outbox_messages_archive'::regclass
+                """, String.class);
+        int dropped = 0;
+        for (String partition : partitions) {
+            if (!partition.startsWith(PARTITION_PREFIX) || partition.equals(DEFAULT_PARTITION)) {
+                continue;
+            }
+            LocalDate day = LocalDate.parse(partition.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX);
+            if (day.isBefore(oldestKept)) {
+                jdbcTemplate.execute("DROP TABLE IF EXISTS platform." + partition);
+                dropped++;
+            }
+        }
+        jdbcTemplate.update("DELETE FROM platform." + DEFAULT_PARTITION + " WHERE processed_at < ?",
+                oldestKept.atStartOfDay(ZoneOffset.UTC).toInstant());
+        meterRegistry.counter("outbox.archive.partitions.dropped").increment(dropped);
+        return dropped;
+    }
+}
@@ -0,0 +1,43 @@
+package com.nexora.synergy.infrastructure.outbox;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * zappschool.outbox.compaction — which event types may be coalesced, each
+ * mapped to its compaction family. Within one aggregate, a message of a
+ * family is superseded by any newer unsent message of the same family; event
+ * types without an entry are never compacted.
+ *
+ * <pre>
+ * zappschool.outbox.compaction:
+ *   enabled: true
+ *   event-types:
+ *     "[tenant.activated.v1]": tenant-status
+ *     "[tenant.suspended.v1]": tenant-status
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "zappschool.outbox.compaction")
+public class OutboxCompactionProperties {
+
+    private boolean enabled;
+    private Map<String, String> eventTypes = new LinkedHashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Map<String, String> getEventTypes() {
+        return eventTypes;
+    }
+
+    public void setEventTypes(Map<String, String> eventTypes) {
+        this.eventTypes = eventTypes;
+    }
+}
@@ -0,0 +1,124 @@
+package com.nexora.synergy.infrastructure.outbox;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * OutboxCompactor — drops superseded messages from a claim before publishing.
+ *
+ * AWS Equivalent: Kafka log compaction, applied before the send.
+ *
+ * Lifecycle churn (suspend → reactivate → suspend, repeated provisioning
+ * retries) can queue several events of one family for the same tenant. Only
+ * the newest still says something consumers need, so a claimed message whose
+ * aggregate already has a newer PENDING or PROCESSING message in the same
+ * family (OutboxCompactionProperties) is marked SUPERSEDED — never sent —
+ * and the newer one is published instead.
+ *
+ * The newer message can still dead-letter. When it does, OutboxDispatchStore
+ * puts the newest message it superseded (superseded_by) back to PENDING in
+ * the same transaction, and the older ones it superseded now point at that
+ * message. That way the latest deliverable state of the family still reaches
+ * consumers. SUPERSEDED rows are deleted by OutboxArchiver after
+ * retention-hours, so a successor that dead-letters later than that restores
+ * nothing.
+ *
+ * One query per family present in the claim. No-op unless
+ * zappschool.outbox.compaction.enabled.
+ *
+ * Metrics: outbox.compaction.superseded{eventType},
+ * outbox.compaction.restored (OutboxMetrics).
+ */
+@Component
+public class OutboxCompactor {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxCompactor.class);
+
+    private static final String SUPERSEDED_SQL = """
+        SELECT id, superseded_by FROM (
+            SELECT o.id, (
+                SELECT n.id FROM platform.outbox_messages n
+                WHERE n.aggregate_id = o.aggregate_id
+                  AND n.event_type = ANY (?::text[])
+                  AND n.status IN ('PENDING', 'PROCESSING')
+                  AND (n.created_at, n.id) > (o.created_at, o.id)
+                ORDER BY n.created_at DESC, n.id DESC
+                LIMIT 1) AS superseded_by
+            FROM platform.outbox_messages o
+            WHERE o.id = ANY (?::uuid[])) c
+        WHERE superseded_by IS NOT NULL
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, String> familyByEventType;
+    private final Map<String, String[]> eventTypesByFamily = new HashMap<>();
+
+    public OutboxCompactor(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+            OutboxCompactionProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.meterRegistry = meterRegistry;
+        this.familyByEventType = properties.isEnabled() ? Map.copyOf(properties.getEventTypes()) : Map.of();
+        familyByEventType.entrySet().stream()
+                .collect(Collectors.groupingBy(Map.Entry::getValue,
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())))
+                .forEach((family, eventTypes) -> eventTypesByFamily.put(family, eventTypes.toArray(String[]::new)));
+    }
+
+    /** A compactor that never supersedes anything. */
+    static OutboxCompactor disabled() {
+        return new OutboxCompactor(null, null, new OutboxCompactionProperties());
+    }
+
+    /**
+     * Marks the superseded messages of a claim SUPERSEDED (in memory; the
+     * store writes them with the rest of the claim on complete()).
+     *
+     * @return number of messages superseded
+     */
+    public int compact(List<OutboxMessage> claimed) {
+        if (familyByEventType.isEmpty()) {
+            return 0;
+        }
+        Map<String, List<OutboxMessage>> byFamily = new LinkedHashMap<>();
+        for (OutboxMessage m : claimed) {
+            String family = familyByEventType.get(m.getEventType());
+            if (family != null) {
+                byFamily.computeIfAbsent(family, k -> new ArrayList<>()).add(m);
+            }
+        }
+        int superseded = 0;
+        for (Map.Entry<String, List<OutboxMessage>> family : byFamily.entrySet()) {
+            Map<UUID, OutboxMessage> byId = family.getValue().stream()
+                    .collect(Collectors.toMap(OutboxMessage::getId, Function.identity()));
+            List<OutboxMessage> compacted = new ArrayList<>();
+            jdbcTemplate.query(SUPERSEDED_SQL, (RowCallbackHandler) rs -> {
+                OutboxMessage m = byId.get(rs.getObject("id", UUID.class));
+                m.markSuperseded(rs.getObject("superseded_by", UUID.class));
+                compacted.add(m);
+            }, eventTypesByFamily.get(family.getKey()),
+                    byId.keySet().stream().map(UUID::toString).toArray(String[]::new));
+            for (OutboxMessage m : compacted) {
+                meterRegistry.counter("outbox.compaction.superseded", "eventType", m.getEventType()).increment();
+                log.debug("Outbox.compaction: id={} aggregateId={} supersededBy={}", m.getId(),
+                        m.getAggregateId(), m.getSupersededBy());
+            }
+            superseded += compacted.size();
+        }
+        return superseded;
+    }
+}
@@ -0,0 +1,129 @@
+package com.nexora.synergy.infrastructure.outbox;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * OutboxDispatchLoop — event-driven driver for the OutboxDispatcher.
+ *
+ * Replaces fixed-interval polling: 1. NOTIFY (via OutboxNotificationListener)
+ * wakes the loop immediately — sub-10ms event-to-dispatch at idle 2. While
+ * batches come back full, the loop drains without sleeping 3. When a poll
+ * finds nothing, the idle wait doubles up to idle-max-ms (listener connected)
+ * or idle-max-without-listener-ms (listener down — polling is the only signal
+ * left) 4. Rows rescheduled with backoff cap the wait at their next_retry_at,
+ * since nobody NOTIFYs when a retry becomes due
+ */
+@Component
+public class OutboxDispatchLoop implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatchLoop.class);
+
+    private final OutboxDispatcher dispatcher;
+    private final Semaphore wakeups = new Semaphore(0);
+    private final long idleMinMs;
+    private final long idleMaxMs;
+    private final long idleMaxWithoutListenerMs;
+
+    private volatile boolean listenerConnected;
+    private volatile boolean running;
+    private Thread thread;
+
+    public OutboxDispatchLoop(
+            OutboxDispatcher dispatcher,
+            @Value("${zappschool.outbox.idle-min-ms:50}") long idleMinMs,
+            @Value("${zappschool.outbox.idle-max-ms:30000}") long idleMaxMs,
+            @Value("${zappschool.outbox.idle-max-without-listener-ms:1000}") long idleMaxWithoutListenerMs
+    ) {
+        this.dispatcher = dispatcher;
+        this.idleMinMs = idleMinMs;
+        this.idleMaxMs = idleMaxMs;
+        this.idleMaxWithoutListenerMs = idleMaxWithoutListenerMs;
+    }
+
+    /**
+     * Called by the listener on every NOTIFY. Coalesces: many wakeups while a
+     * cycle runs collapse into one extra cycle.
+     */
+    public void wakeUp() {
+        if (wakeups.availablePermits() == 0) {
+            wakeups.release();
+        }
+    }
+
+    public void listenerConnected(boolean connected) {
+        this.listenerConnected = connected;
+        if (!connected) {
+            wakeUp(); // re-evaluate the idle cap right away
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        running = true;
+        thread = Thread.ofPlatform().name("outbox-dispatch-loop").daemon().start(this::run);
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        long idleMs = idleMinMs;
+        while (running) {
+            try {
+                int dispatched = dispatcher.dispatchPending();
+                idleMs = dispatched > 0 ? idleMinMs : Math.min(idleMs * 2, idleCap());
+                long waitMs = untilNextRetry(idleMs);
+                if (wakeups.tryAcquire(waitMs, TimeUnit.MILLISECONDS)) {
+                    wakeups.drainPermits();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Outbox.loop.error: {}", e.getMessage(), e);
+                idleMs = idleCap();
+                sleepQuietly(idleMs);
+            }
+        }
+    }
+
+    private long idleCap() {
+        return listenerConnected ? idleMaxMs : idleMaxWithoutListenerMs;
+    }
+
+    private long untilNextRetry(long idleMs) {
+        Instant earliest = dispatcher.getEarliestRetryAt();
+        if (earliest == null) {
+            return idleMs;
+        }
+        long untilDue = Duration.between(Instant.now(), earliest).toMillis();
+        return Math.max(0, Math.min(idleMs, untilDue));
+    }
+
+    private static void sleepQuietly(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
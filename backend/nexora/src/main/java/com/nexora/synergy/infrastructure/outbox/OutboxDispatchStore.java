@@ -0,0 +1,268 @@
+package com.nexora.synergy.infrastructure.outbox;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * OutboxDispatchStore — the two short transactions around a dispatch cycle.
+ *
+ * claim(): SELECT ... FOR UPDATE SKIP LOCKED + one UPDATE to PROCESSING, then
+ * commit. Row locks are held for milliseconds only; after commit the rows are
+ * invisible to every other dispatcher node (SQS "in-flight" equivalent) for
+ * as long as this node's lease (locked_by, locked_until) lasts.
+ *
+ * complete(): writes the outcome of every message in the claim back as ONE
+ * JDBC batch, so a claim costs two round trips regardless of its size. Only
+ * rows this node still holds are written — a row whose lease expired and was
+ * reclaimed belongs to its new owner. In the same transaction, every message
+ * that was just dead-lettered puts back the newest message it superseded
+ * (compaction, superseded_by) as PENDING. The older messages it superseded
+ * are re-pointed at that one. So a family's latest deliverable state is never
+ * lost to a successor that could not be delivered.
+ *
+ * Leases: extendLeases() pushes locked_until forward for everything this
+ * node holds (one UPDATE); reapExpiredLeases() returns rows of dead or stuck
+ * nodes to PENDING.
+ *
+ * Ordered mode (zappschool.outbox.ordering.enabled): claim() first takes a
+ * transaction-scoped advisory lock per aggregate with claimable work (skipping
+ * aggregates another node is claiming right now), then — in a second
+ * statement, whose snapshot already sees that node's committed claim —
+ * selects only rows with no earlier row of their aggregate in flight or in
+ * backoff. An aggregate's messages are therefore never held by two nodes at
+ * once and never overtake each other. DEAD_LETTER is final and unblocks the
+ * rows behind it; redriving it later does not restore its position.
+ *
+ * Every status change is reported to OutboxMetrics (applied on commit).
+ */
+@Component
+public class OutboxDispatchStore {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatchStore.class);
+
+    private static final String COMPLETE_SQL = """
+        UPDATE platform.outbox_messages
+        SET status = ?, retry_count = ?, last_error = ?, processed_at = ?, next_retry_at = ?,
+            superseded_by = ?, locked_by = NULL, locked_until = NULL
+        WHERE id = ? AND status = 'PROCESSING' AND locked_by = ?
+        """;
+
+    /**
+     * Param: the ids just dead-lettered (uuid[]). Per id, the newest SUPERSEDED
+     * row it superseded goes back to PENDING, due now; the rest of its
+     * superseded rows now point at the restored one. Data-modifying CTEs run
+     * whether or not the final SELECT reads them.
+     */
+    static final String RESTORE_SUPERSEDED_SQL = """
+        WITH restored AS (
+            UPDATE platform.outbox_messages o
+            SET status = 'PENDING', processed_at = NULL, next_retry_at = now(), superseded_by = NULL,
+                last_error = 'restored: successor ' || s.dead_id || ' dead-lettered'
+            FROM (
+                SELECT DISTINCT ON (m.superseded_by) m.id, m.superseded_by AS dead_id
+                FROM platform.outbox_messages m
+                WHERE m.superseded_by = ANY (?::uuid[]) AND m.status = 'SUPERSEDED'
+                ORDER BY m.superseded_by, m.created_at DESC, m.id DESC) s
+            WHERE o.id = s.id
+            RETURNING o.id, s.dead_id
+        ), repointed AS (
+            UPDATE platform.outbox_messages o
+            SET superseded_by = r.id
+            FROM restored r
+            WHERE o.superseded_by = r.dead_id AND o.status = 'SUPERSEDED' AND o.id <> r.id
+        )
+        SELECT id FROM restored
+        """;
+
+    /**
+     * The limit aggregates with the oldest row that is due and actually
+     * claimable — no earlier row of its aggregate in flight or in backoff
+     * (same predicate as OutboxRepository.findOrderedPendingForDispatch).
+     * Without it, held-back rows (due, but queued behind a retrying
+     * predecessor) would fill every slot after an outage and starve healthy
+     * aggregates until the backoff ends.
+     */
+    static final String LOCK_DUE_AGGREGATES_SQL = """
+        SELECT aggregate_id FROM (
+            SELECT m.aggregate_id, min(m.created_at) AS oldest
+            FROM platform.outbox_messages m
+            WHERE m.status = 'PENDING' AND m.next_retry_at <= ?
+              AND NOT EXISTS (
+                  SELECT 1 FROM platform.outbox_messages e
+                  WHERE e.aggregate_id = m.aggregate_id
+                    AND (e.created_at, e.id) < (m.created_at, m.id)
+                    AND (e.status = 'PROCESSING' OR (e.status = 'PENDING' AND e.next_retry_at > ?)))
+            GROUP BY m.aggregate_id
+            ORDER BY oldest
+            LIMIT ?) due
+        WHERE pg_try_advisory_xact_lock(hashtext('platform.outbox_messages'), hashtext(aggregate_id))
+        """;
+
+    private final OutboxRepository outboxRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final OutboxMetrics outboxMetrics;
+    private final Duration leaseDuration;
+    private final boolean ordered;
+    private final String nodeId;
+    private final Set<UUID> held = ConcurrentHashMap.newKeySet();
+
+    public OutboxDispatchStore(OutboxRepository outboxRepository, JdbcTemplate jdbcTemplate,
+            OutboxMetrics outboxMetrics,
+            @Value("${zappschool.outbox.lease-ms:60000}") long leaseMs,
+            @Value("${zappschool.outbox.ordering.enabled:false}") boolean ordered) {
+        this.outboxRepository = outboxRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.outboxMetrics = outboxMetrics;
+        this.leaseDuration = Duration.ofMillis(leaseMs);
+        this.ordered = ordered;
+        // pid@host plus a per-start suffix: a restarted process never inherits its predecessor's leases
+        this.nodeId = ManagementFactory.getRuntimeMXBean().getName()
+                + "/" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Transactional
+    public List<OutboxMessage> claim(int limit) {
+        List<OutboxMessage> batch = ordered
+                ? findOrderedPending(limit)
+                : outboxRepository.findPendingForDispatch(Instant.now(), limit);
+        if (batch.isEmpty()) {
+            return batch;
+        }
+        Instant lockedUntil = Instant.now().plus(leaseDuration);
+        List<UUID> ids = batch.stream().map(OutboxMessage::getId).toList();
+        outboxRepository.markProcessing(ids, nodeId, lockedUntil);
+        // The bulk UPDATE cleared the persistence context — mirror the new state on the detached copies
+        batch.forEach(m -> m.markProcessing(nodeId, lockedUntil));
+        held.addAll(ids);
+        outboxMetrics.claimed(batch.size());
+        return batch;
+    }
+
+    private List<OutboxMessage> findOrderedPending(int limit) {
+        Instant now = Instant.now();
+        Timestamp dueBy = Timestamp.from(now);
+        List<String> aggregateIds = jdbcTemplate.queryForList(
+                LOCK_DUE_AGGREGATES_SQL, String.class, dueBy, dueBy, limit);
+        if (aggregateIds.isEmpty()) {
+            return List.of();
+        }
+        return outboxRepository.findOrderedPendingForDispatch(now, aggregateIds, limit);
+    }
+
+    @Transactional
+    public void complete(List<OutboxMessage> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        int[][] updated;
+        try {
+            updated = jdbcTemplate.batchUpdate(COMPLETE_SQL, batch, batch.size(), (ps, m) -> {
+                ps.setString(1, m.getStatus().name());
+                ps.setInt(2, m.getRetryCount());
+                ps.setString(3, m.getLastError());
+                ps.setTimestamp(4, toTimestamp(m.getProcessedAt()));
+                ps.setTimestamp(5, toTimestamp(m.getNextRetryAt()));
+                ps.setObject(6, m.getSupersededBy());
+                ps.setObject(7, m.getId());
+                ps.setString(8, nodeId);
+            });
+        } finally {
+            // Even if the write fails: a row whose outcome was not recorded must
+            // not be renewed forever — its lease lapses and the reaper redelivers it
+            batch.forEach(m -> held.remove(m.getId()));
+        }
+        List<OutboxMessage> completed = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            if (updated[0][i] != 0) { // 0: lease lost, the row's new owner reports its outcome
+                completed.add(batch.get(i));
+            }
+        }
+        outboxMetrics.completed(completed);
+        restoreSuperseded(completed);
+    }
+
+    private void restoreSuperseded(List<OutboxMessage> completed) {
+        String[] deadLettered = completed.stream()
+                .filter(m -> m.getStatus() == OutboxMessage.OutboxStatus.DEAD_LETTER)
+                .map(m -> m.getId().toString())
+                .toArray(String[]::new);
+        if (deadLettered.length == 0) {
+            return;
+        }
+        List<UUID> restored = jdbcTemplate.queryForList(RESTORE_SUPERSEDED_SQL, UUID.class, (Object) deadLettered);
+        if (!restored.isEmpty()) {
+            outboxMetrics.restored(restored.size());
+            log.info("Outbox.compaction.restored: ids={} deadLettered={}", restored, List.of(deadLettered));
+        }
+    }
+
+    /**
+     * Stops renewing the leases of a batch this node gave up on without
+     * completing it; the reaper hands the rows back once the lease runs out.
+     */
+    public void abandon(List<OutboxMessage> batch) {
+        batch.forEach(m -> held.remove(m.getId()));
+    }
+
+    /**
+     * Heartbeat: pushes locked_until forward for every row this node holds,
+     * in one UPDATE.
+     *
+     * @return number of leases extended
+     */
+    public int extendLeases() {
+        if (held.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update("""
+                UPDATE platform.outbox_messages SET locked_until = ?
+                WHERE id = ANY (?::uuid[]) AND status = 'PROCESSING' AND locked_by = ?
+                """, Timestamp.from(Instant.now().plus(leaseDuration)),
+                held.stream().map(UUID::toString).toArray(String[]::new), nodeId);
+    }
+
+    /**
+     * Returns up to limit PROCESSING rows whose lease has run out (or that
+     * were claimed before leases existed) to PENDING, due immediately. The
+     * retry count is untouched: the broker may or may not have the message,
+     * so it is simply delivered again (at-least-once).
+     *
+     * @return number of rows returned to PENDING
+     */
+    @Transactional
+    public int reapExpiredLeases(int limit) {
+        int reaped = jdbcTemplate.update("""
+                UPDATE platform.outbox_messages
+                SET status = 'PENDING', locked_by = NULL, locked_until = NULL, next_retry_at = now()
+                WHERE id IN (
+                    SELECT id FROM platform.outbox_messages
+                    WHERE status = 'PROCESSING' AND (locked_until IS NULL OR locked_until < now())
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED)
+                """, limit);
+        outboxMetrics.leasesExpired(reaped);
+        return reaped;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private static Timestamp toTimestamp(Instant instant) {
+        return instant != null ? Timestamp.from(instant) : null;
+    }
+}
@@ -0,0 +1,217 @@
+package com.nexora.synergy.infrastructure.outbox;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * OutboxDispatcher — drains platform.outbox_messages to the message broker.
+ *
+ * AWS Equivalent: SQS consumer with a bounded worker pool.
+ *
+ * One cycle: 1. Claim up to batch-size PENDING rows (SKIP LOCKED → safe with
+ * several app nodes, no double delivery) 2. Compact: mark messages a newer
+ * one of their family makes obsolete SUPERSEDED (OutboxCompactor, opt-in)
+ * 3. Publish every other message in parallel on a bounded pool of virtual
+ * threads, each waiting for its broker confirm 4. Write all outcomes back in
+ * one batched UPDATE (PROCESSED, SUPERSEDED, PENDING with jittered backoff, or
+ * DEAD_LETTER — per the eventType's OutboxRetryPolicy; a dead-lettered
+ * message puts back the newest message it superseded, in the same
+ * transaction)
+ *
+ * Ordered mode (zappschool.outbox.ordering.enabled): the claim only hands out
+ * messages whose predecessors in the same aggregate are done (see
+ * OutboxDispatchStore), and the batch is split into ordering.lanes lanes by
+ * hash of aggregate_id. Lanes run in parallel, each one sequentially, so a
+ * tenant's events reach the broker in created_at order while different
+ * tenants are published concurrently. When a message fails, the rest of its
+ * aggregate's messages in the lane are held back (PENDING, no retry consumed)
+ * until it succeeds or is dead-lettered.
+ *
+ * A full batch means more work is waiting, so the cycle repeats immediately.
+ * Scheduling is owned by OutboxDispatchLoop (NOTIFY wakeups + adaptive idle).
+ */
+@Component
+public class OutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    private final OutboxDispatchStore dispatchStore;
+    private final OutboxCompactor compactor;
+    private final OutboxMessageSender messageSender;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService workers;
+    private final OutboxRetryPolicies retryPolicies;
+    private final int batchSize;
+    private final int orderedLanes;
+
+    private volatile Instant earliestRetryAt;
+
+    public OutboxDispatcher(
+            OutboxDispatchStore dispatchStore,
+            OutboxCompactor compactor,
+            OutboxMessageSender messageSender,
+            MeterRegistry meterRegistry,
+            OutboxRetryPolicies retryPolicies,
+            @Value("${zappschool.outbox.batch-size:100}") int batchSize,
+            @Value("${zappschool.outbox.dispatch-concurrency:16}") int concurrency,
+            @Value("${zappschool.outbox.ordering.enabled:false}") boolean ordered,
+            @Value("${zappschool.outbox.ordering.lanes:16}") int lanes
+    ) {
+        this.dispatchStore = dispatchStore;
+        this.compactor = compactor;
+        this.messageSender = messageSender;
+        this.meterRegistry = meterRegistry;
+        this.retryPolicies = retryPolicies;
+        this.batchSize = batchSize;
+        this.orderedLanes = ordered ? lanes : 0;
+        this.workers = Executors.newFixedThreadPool(concurrency,
+                Thread.ofVirtual().name("outbox-dispatch-", 0).factory());
+    }
+
+    /**
+     * Drains due messages until a claim comes back short.
+     *
+     * @return total number of messages claimed
+     */
+    public int dispatchPending() {
+        Instant retryAt = earliestRetryAt;
+        if (retryAt != null && !retryAt.isAfter(Instant.now())) {
+            earliestRetryAt = null; // due now — this drain picks it up
+        }
+        int total = 0;
+        int dispatched;
+        do {
+            dispatched = dispatchBatch();
+            total += dispatched;
+        } while (dispatched == batchSize);
+        return total;
+    }
+
+    /**
+     * Earliest next_retry_at among messages this node rescheduled, or null.
+     * Lets the dispatch loop wake up exactly when a retry becomes due.
+     */
+    public Instant getEarliestRetryAt() {
+        return earliestRetryAt;
+    }
+
+    /**
+     * Runs one claim → publish → complete cycle.
+     *
+     * @return number of messages claimed
+     */
+    public int dispatchBatch() {
+        List<OutboxMessage> batch = dispatchStore.claim(batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        int superseded = compactor.compact(batch);
+        List<Callable<Void>> deliveries = new ArrayList<>(batch.size());
+        if (orderedLanes > 0) {
+            for (List<OutboxMessage> lane : lanes(batch)) {
+                deliveries.add(() -> deliverInOrder(lane));
+            }
+        } else {
+            for (OutboxMessage m : batch) {
+                if (m.getStatus() == OutboxMessage.OutboxStatus.PROCESSING) {
+                    deliveries.add(() -> deliver(m));
+                }
+            }
+        }
+        try {
+            workers.invokeAll(deliveries);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            dispatchStore.abandon(batch);
+            log.warn("Outbox.dispatch: interrupted, {} messages left PROCESSING until their lease expires",
+                    batch.size());
+            return 0;
+        }
+
+        dispatchStore.complete(batch);
+        rememberEarliestRetry(batch);
+        log.debug("Outbox.dispatch: claimed={} superseded={}", batch.size(), superseded);
+        return batch.size();
+    }
+
+    private Void deliver(OutboxMessage m) {
+        try {
+            messageSender.send(m);
+            m.markProcessed();
+            meterRegistry.counter("outbox.dispatch.success", "eventType", m.getEventType()).increment();
+        } catch (Exception e) {
+            m.markFailed(e.getClass().getSimpleName() + ": " + e.getMessage(),
+                    retryPolicies.policyFor(m.getEventType()));
+            meterRegistry.counter("outbox.dispatch.failure",
+                    "eventType", m.getEventType(), "status", m.getStatus().name()).increment();
+            log.warn("Outbox.dispatch.failed: id={} type={} retryCount={} status={} error={}",
+                    m.getId(), m.getEventType(), m.getRetryCount(), m.getStatus(), e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * Splits a claim into lanes by hash of aggregate_id, keeping claim
+     * (created_at) order within each lane.
+     */
+    private Iterable<List<OutboxMessage>> lanes(List<OutboxMessage> batch) {
+        Map<Integer, List<OutboxMessage>> lanes = new LinkedHashMap<>();
+        for (OutboxMessage m : batch) {
+            int lane = Math.floorMod(Objects.hashCode(m.getAggregateId()), orderedLanes);
+            lanes.computeIfAbsent(lane, k -> new ArrayList<>()).add(m);
+        }
+        return lanes.values();
+    }
+
+    private Void deliverInOrder(List<OutboxMessage> lane) {
+        Set<String> blocked = new HashSet<>();
+        for (OutboxMessage m : lane) {
+            if (m.getStatus() != OutboxMessage.OutboxStatus.PROCESSING) {
+                continue; // superseded
+            }
+            if (blocked.contains(m.getAggregateId())) {
+                m.holdBack();
+                continue;
+            }
+            deliver(m);
+            if (m.getStatus() == OutboxMessage.OutboxStatus.PENDING) {
+                blocked.add(m.getAggregateId());
+            }
+        }
+        return null;
+    }
+
+    private void rememberEarliestRetry(List<OutboxMessage> batch) {
+        Instant earliest = earliestRetryAt;
+        for (OutboxMessage m : batch) {
+            if (m.getStatus() == OutboxMessage.OutboxStatus.PENDING
+                    && (earliest == null || m.getNextRetryAt().isBefore(earliest))) {
+                earliest = m.getNextRetryAt();
+            }
+        }
+        earliestRetryAt = earliest;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdown();
+    }
+}
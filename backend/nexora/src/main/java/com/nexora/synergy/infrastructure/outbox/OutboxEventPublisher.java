@@ -1,9 +1,12 @@
 package com.nexora.synergy.infrastructure.outbox;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 import com.nexora.synergy.platform.domain.shared.events.DomainEvent;
@@ -14,29 +17,86 @@ import com.nexora.synergy.platform.domain.shared.events.DomainEvent;
  * MUST be called inside the same @Transactional as aggregate.save(). If the
  * outer transaction rolls back, this record rolls back too. This is the core of
  * the Transactional Outbox guarantee.
+ *
+ * Each write also schedules a NOTIFY for the transaction, so idle dispatchers
+ * wake up as soon as the row is committed instead of on their next poll.
+ *
+ * publishAll() writes every event an aggregate raised as ONE JDBC batch
+ * (collapsed into a multi-VALUES INSERT by reWriteBatchedInserts), using a
+ * single shared ObjectWriter — one round trip instead of one per event.
+ *
+ * Payloads are encoded by the configured OutboxPayloadCodec
+ * (zappschool.outbox.payload-format: json | smile) and stored as bytea with
+ * their content type.
  */
 @Component
 public class OutboxEventPublisher {
 
     private static final Logger log = LoggerFactory.getLogger(OutboxEventPublisher.class);
 
-    private final OutboxRepository outboxRepository;
-    private final ObjectMapper objectMapper;
+    private static final String INSERT_SQL = """
+        INSERT INTO platform.outbox_messages
+            (id, aggregate_type, aggregate_id, event_type, payload_bytes, content_type, correlation_id,
+             idempotency_key, status, retry_count, created_at, next_retry_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OutboxPayloadCodec payloadCodec;
+    private final OutboxNotifier outboxNotifier;
+    private final OutboxMetrics outboxMetrics;
 
-    public OutboxEventPublisher(OutboxRepository outboxRepository, ObjectMapper objectMapper) {
-        this.outboxRepository = outboxRepository;
-        this.objectMapper = objectMapper;
+    public OutboxEventPublisher(JdbcTemplate jdbcTemplate, OutboxPayloadCodecs payloadCodecs,
+            OutboxNotifier outboxNotifier, OutboxMetrics outboxMetrics) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.payloadCodec = payloadCodecs.writer();
+        this.outboxNotifier = outboxNotifier;
+        this.outboxMetrics = outboxMetrics;
     }
 
     public void publish(DomainEvent event, String aggregateType) {
+        publishAll(List.of(event), aggregateType);
+    }
+
+    public void publishAll(List<? extends DomainEvent> events, String aggregateType) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<OutboxMessage> messages = new ArrayList<>(events.size());
+        for (DomainEvent event : events) {
+            messages.add(toMessage(event, aggregateType));
+        }
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, messages, messages.size(), (ps, m) -> {
+                ps.setObject(1, m.getId());
+                ps.setString(2, m.getAggregateType());
+                ps.setString(3, m.getAggregateId());
+                ps.setString(4, m.getEventType());
+                ps.setBytes(5, m.getPayloadBytes());
+                ps.setString(6, m.getContentType());
+                ps.setString(7, m.getCorrelationId());
+                ps.setString(8, m.getIdempotencyKey());
+                ps.setString(9, m.getStatus().name());
+                ps.setInt(10, m.getRetryCount());
+                ps.setTimestamp(11, Timestamp.from(m.getCreatedAt()));
+                ps.setTimestamp(12, Timestamp.from(m.getNextRetryAt()));
+            });
+        } catch (Exception e) {
+            throw new RuntimeException("Outbox write failed for " + events.size()
+                    + " event(s), first: " + events.get(0).getEventType(), e);
+        }
+        outboxNotifier.signalPending();
+        outboxMetrics.published(messages.size());
+        log.debug("Outbox.persist: count={} aggregateType={} correlationId={}",
+                messages.size(), aggregateType, messages.get(0).getCorrelationId());
+    }
+
+    private OutboxMessage toMessage(DomainEvent event, String aggregateType) {
         try {
-            String payload = objectMapper.writeValueAsString(event);
-            OutboxMessage msg = OutboxMessage.create(
+            byte[] payload = payloadCodec.encode(event);
+            return OutboxMessage.create(
                     aggregateType, event.getAggregateId(), event.getEventType(),
-                    payload, event.getCorrelationId(), event.getEventId());
-            outboxRepository.save(msg);
-            log.debug("Outbox.persist: type={} aggregateId={} correlationId={}",
-                    event.getEventType(), event.getAggregateId(), event.getCorrelationId());
+                    payload, payloadCodec.getContentType(), event.getCorrelationId(), event.getEventId());
         } catch (Exception e) {
             throw new RuntimeException("Outbox write failed for: " + event.getEventType(), e);
         }
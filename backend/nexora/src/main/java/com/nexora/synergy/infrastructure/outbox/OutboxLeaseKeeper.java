@@ -0,0 +1,67 @@
+package com.nexora.synergy.infrastructure.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * OutboxLeaseKeeper — keeps PROCESSING leases honest.
+ *
+ * AWS Equivalent: SQS visibility timeout + ChangeMessageVisibility heartbeat.
+ *
+ * 1. Heartbeat (every lease-heartbeat-ms, well under lease-ms): extends the
+ *    leases of every row this node is still publishing, so long batches are
+ *    never reaped from under a live dispatcher
+ * 2. Reaper (every lease-reaper-interval-ms): returns rows with an expired
+ *    lease — their node crashed or hung — to PENDING and wakes the dispatch
+ *    loop, on whichever node gets there first (SKIP LOCKED)
+ *
+ * Metrics: outbox.lease.extended, outbox.lease.reaped.
+ */
+@Component
+public class OutboxLeaseKeeper {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxLeaseKeeper.class);
+
+    private final OutboxDispatchStore dispatchStore;
+    private final OutboxDispatchLoop dispatchLoop;
+    private final MeterRegistry meterRegistry;
+    private final int reapBatchSize;
+
+    public OutboxLeaseKeeper(
+            OutboxDispatchStore dispatchStore,
+            OutboxDispatchLoop dispatchLoop,
+            MeterRegistry meterRegistry,
+            @Value("${zappschool.outbox.lease-reap-batch-size:500}") int reapBatchSize
+    ) {
+        this.dispatchStore = dispatchStore;
+        this.dispatchLoop = dispatchLoop;
+        this.meterRegistry = meterRegistry;
+        this.reapBatchSize = reapBatchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${zappschool.outbox.lease-heartbeat-ms:20000}")
+    public void heartbeat() {
+        int extended = dispatchStore.extendLeases();
+        meterRegistry.counter("outbox.lease.extended").increment(extended);
+    }
+
+    @Scheduled(fixedDelayString = "${zappschool.outbox.lease-reaper-interval-ms:30000}")
+    public void reap() {
+        int total = 0;
+        int reaped;
+        do {
+            reaped = dispatchStore.reapExpiredLeases(reapBatchSize);
+            total += reaped;
+        } while (reaped == reapBatchSize);
+        if (total > 0) {
+            meterRegistry.counter("outbox.lease.reaped").increment(total);
+            log.warn("Outbox.lease.reaped: count={} — returned to PENDING after lease expiry", total);
+            dispatchLoop.wakeUp();
+        }
+    }
+}
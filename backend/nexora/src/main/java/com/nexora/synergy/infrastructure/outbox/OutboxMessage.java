@@ -1,15 +1,26 @@
 package com.nexora.synergy.infrastructure.outbox;
 
 import jakarta.persistence.*;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.nexora.synergy.platform.domain.shared.id.TimeOrderedIds;
 
 /**
  * OUTBOX PATTERN: OutboxMessage — AWS at-least-once delivery guarantee.
  *
- * Aggregate + OutboxMessage are saved in ONE transaction. OutboxPoller
+ * Aggregate + OutboxMessage are saved in ONE transaction. OutboxDispatcher
  * dispatches PENDING messages, marks PROCESSED after success. Failed messages
- * retry with exponential backoff → DEAD_LETTER after maxRetries.
+ * retry with jittered exponential backoff → DEAD_LETTER after maxRetries, both
+ * per eventType (OutboxRetryPolicy).
+ * OutboxArchiver later moves PROCESSED rows to platform.outbox_messages_archive.
+ *
+ * The payload is stored as bytes in payload_bytes, in the format named by
+ * content_type (OutboxPayloadCodecs). Rows from before that split carry JSON
+ * text in payload and no content type; getPayloadBytes()/getContentType()
+ * read both shapes.
  */
 @Entity
 @Table(name = "outbox_messages", schema = "platform",
@@ -33,9 +44,16 @@ public class OutboxMessage {
     @Column(name = "event_type", nullable = false, length = 100)
     private String eventType;
 
-    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    /** Legacy JSON text payload; rows written since V8 use payloadBytes. */
+    @Column(name = "payload", columnDefinition = "TEXT")
     private String payload;
 
+    @Column(name = "payload_bytes")
+    private byte[] payloadBytes;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
     @Column(name = "correlation_id", length = 100)
     private String correlationId;
 
@@ -61,17 +79,36 @@ public class OutboxMessage {
     @Column(name = "next_retry_at")
     private Instant nextRetryAt;
 
+    /** SUPERSEDED only: the newer message of the compaction family that replaced this one. */
+    @Column(name = "superseded_by")
+    private UUID supersededBy;
+
+    /** Dispatcher node holding the PROCESSING lease. */
+    @Column(name = "locked_by", length = 100)
+    private String lockedBy;
+
+    /** Lease expiry — past it, OutboxLeaseKeeper returns the row to PENDING. */
+    @Column(name = "locked_until")
+    private Instant lockedUntil;
+
     protected OutboxMessage() {
     }
 
     public static OutboxMessage create(String aggregateType, String aggregateId,
-            String eventType, String payload, String correlationId, String idempotencyKey) {
+            String eventType, String jsonPayload, String correlationId, String idempotencyKey) {
+        return create(aggregateType, aggregateId, eventType, jsonPayload.getBytes(StandardCharsets.UTF_8),
+                OutboxPayloadCodecs.JSON, correlationId, idempotencyKey);
+    }
+
+    public static OutboxMessage create(String aggregateType, String aggregateId, String eventType,
+            byte[] payload, String contentType, String correlationId, String idempotencyKey) {
         OutboxMessage m = new OutboxMessage();
-        m.id = UUID.randomUUID();
+        m.id = TimeOrderedIds.next();
         m.aggregateType = aggregateType;
         m.aggregateId = aggregateId;
         m.eventType = eventType;
-        m.payload = payload;
+        m.payloadBytes = payload;
+        m.contentType = contentType;
         m.correlationId = correlationId;
         m.idempotencyKey = idempotencyKey;
         m.status = OutboxStatus.PENDING;
@@ -81,22 +118,53 @@ public class OutboxMessage {
         return m;
     }
 
-    public void markProcessing() {
+    public void markProcessing(String lockedBy, Instant lockedUntil) {
         this.status = OutboxStatus.PROCESSING;
+        this.lockedBy = lockedBy;
+        this.lockedUntil = lockedUntil;
     }
 
     public void markProcessed() {
         this.status = OutboxStatus.PROCESSED;
         this.processedAt = Instant.now();
+        releaseLease();
     }
 
-    public void markFailed(String error, int maxRetries) {
+    public void markFailed(String error, OutboxRetryPolicy retryPolicy) {
         this.retryCount++;
         this.lastError = error;
-        this.status = (retryCount >= maxRetries) ? OutboxStatus.DEAD_LETTER : OutboxStatus.PENDING;
+        this.status = (retryCount >= retryPolicy.getMaxRetries()) ? OutboxStatus.DEAD_LETTER : OutboxStatus.PENDING;
         if (status == OutboxStatus.PENDING) {
-            this.nextRetryAt = Instant.now().plusSeconds((long) Math.pow(2, retryCount));
+            this.nextRetryAt = Instant.now().plus(retryPolicy.nextDelay(retryCount, ThreadLocalRandom.current()));
         }
+        releaseLease();
+    }
+
+    /**
+     * Final without publishing: a newer message of the same aggregate and
+     * compaction family makes this one obsolete (OutboxCompactor).
+     */
+    public void markSuperseded(UUID supersededBy) {
+        this.status = OutboxStatus.SUPERSEDED;
+        this.processedAt = Instant.now();
+        this.supersededBy = supersededBy;
+        releaseLease();
+    }
+
+    /**
+     * Returns a claimed message to PENDING untouched — no attempt, no retry
+     * consumed — because an earlier message of its aggregate just failed
+     * (ordered dispatch).
+     */
+    public void holdBack() {
+        this.status = OutboxStatus.PENDING;
+        this.nextRetryAt = Instant.now();
+        releaseLease();
+    }
+
+    private void releaseLease() {
+        this.lockedBy = null;
+        this.lockedUntil = null;
     }
 
     public UUID getId() {
@@ -115,8 +183,12 @@ public class OutboxMessage {
         return eventType;
     }
 
-    public String getPayload() {
-        return payload;
+    public byte[] getPayloadBytes() {
+        return payloadBytes != null ? payloadBytes : payload.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public String getContentType() {
+        return contentType != null ? contentType : OutboxPayloadCodecs.JSON;
     }
 
     public String getCorrelationId() {
@@ -139,15 +211,31 @@ public class OutboxMessage {
         return lastError;
     }
 
+    public UUID getSupersededBy() {
+        return supersededBy;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
 
+    public Instant getProcessedAt() {
+        return processedAt;
+    }
+
     public Instant getNextRetryAt() {
         return nextRetryAt;
     }
 
+    public String getLockedBy() {
+        return lockedBy;
+    }
+
+    public Instant getLockedUntil() {
+        return lockedUntil;
+    }
+
     public enum OutboxStatus {
-        PENDING, PROCESSING, PROCESSED, DEAD_LETTER
+        PENDING, PROCESSING, PROCESSED, DEAD_LETTER, SUPERSEDED
     }
 }
@@ -0,0 +1,13 @@
+package com.nexora.synergy.infrastructure.outbox;
+
+/**
+ * OutboxMessageSender — transport port used by the OutboxDispatcher.
+ *
+ * Implementations must block until the broker has durably accepted the
+ * message (publisher confirm) and throw on nack, return or timeout. Only a
+ * normal return marks the outbox row PROCESSED.
+ */
+public interface OutboxMessageSender {
+
+    void send(OutboxMessage message) throws Exception;
+}
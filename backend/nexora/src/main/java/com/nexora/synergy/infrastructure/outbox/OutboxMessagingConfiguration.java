@@ -0,0 +1,38 @@
+package com.nexora.synergy.infrastructure.outbox;
+
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Declares the platform event exchange. Topic type so consumers can bind by
+ * event family, e.g. "tenant.#" or "tenant.activated.v1".
+ *
+ * Also resolves zappschool.outbox.retry into the per-eventType retry policies
+ * and binds zappschool.outbox.compaction for OutboxCompactor, and selects the
+ * payload format new outbox rows are written in.
+ */
+@Configuration
+@EnableConfigurationProperties({OutboxRetryProperties.class, OutboxCompactionProperties.class})
+public class OutboxMessagingConfiguration {
+
+    @Bean
+    public TopicExchange outboxExchange(@Value("${zappschool.outbox.exchange:nexora.events}") String name) {
+        return new TopicExchange(name, true, false);
+    }
+
+    @Bean
+    public OutboxPayloadCodecs outboxPayloadCodecs(ObjectMapper objectMapper,
+            @Value("${zappschool.outbox.payload-format:json}") String format) {
+        return OutboxPayloadCodecs.jackson(objectMapper, format);
+    }
+
+    @Bean
+    public OutboxRetryPolicies outboxRetryPolicies(OutboxRetryProperties properties) {
+        return properties.toPolicies();
+    }
+}
@@ -0,0 +1,169 @@
+package com.nexora.synergy.infrastructure.outbox;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.nexora.synergy.infrastructure.outbox.OutboxMessage.OutboxStatus;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * OutboxMetrics — outbox health without COUNT(*) on every scrape.
+ *
+ * AWS Equivalent: SQS ApproximateNumberOfMessages* / ApproximateAgeOfOldestMessage.
+ *
+ * 1. outbox.messages{status} — per-status counters kept in memory, moved by
+ *    the code paths that change a row's status (publish, claim, complete,
+ *    lease expiry, redrive, compaction restore, archive), each applied only
+ *    after its transaction commits
+ * 2. outbox.pending.oldest.age — seconds since the oldest PENDING row was
+ *    created
+ * 3. outbox.dispatch.lag — created → PROCESSED, as a percentile histogram
+ * 4. outbox.dispatch.retries — retry count of every message reaching a final
+ *    state (PROCESSED or DEAD_LETTER)
+ *
+ * The counters are per node and only see this node's transitions, so
+ * reconcile() resets them (and the oldest-pending timestamp) from one
+ * GROUP BY every reconcile-interval-ms.
+ */
+@Component
+public class OutboxMetrics {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<OutboxStatus, AtomicLong> counts = new EnumMap<>(OutboxStatus.class);
+    private final Timer dispatchLag;
+    private final DistributionSummary retries;
+    private final Counter restored;
+
+    private volatile Instant oldestPendingCreatedAt;
+
+    public OutboxMetrics(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        for (OutboxStatus status : OutboxStatus.values()) {
+            AtomicLong count = new AtomicLong();
+            counts.put(status, count);
+            Gauge.builder("outbox.messages", count, AtomicLong::get)
+                    .tag("status", status.name())
+                    .description("Outbox rows per status (in-memory, periodically reconciled)")
+                    .register(meterRegistry);
+        }
+        Gauge.builder("outbox.pending.oldest.age", this, OutboxMetrics::oldestPendingAgeSeconds)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.dispatchLag = Timer.builder("outbox.dispatch.lag")
+                .description("Time from outbox insert to broker confirm")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.retries = DistributionSummary.builder("outbox.dispatch.retries")
+                .description("Retries a message needed before reaching PROCESSED or DEAD_LETTER")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.restored = meterRegistry.counter("outbox.compaction.restored");
+    }
+
+    void published(int count) {
+        afterCommit(() -> counts.get(OutboxStatus.PENDING).addAndGet(count));
+    }
+
+    void claimed(int count) {
+        afterCommit(() -> {
+            counts.get(OutboxStatus.PENDING).addAndGet(-count);
+            counts.get(OutboxStatus.PROCESSING).addAndGet(count);
+        });
+    }
+
+    /**
+     * Records the outcome of completed (PROCESSING → ...) messages.
+     */
+    void completed(List<OutboxMessage> messages) {
+        afterCommit(() -> {
+            for (OutboxMessage m : messages) {
+                counts.get(OutboxStatus.PROCESSING).decrementAndGet();
+                counts.get(m.getStatus()).incrementAndGet();
+                if (m.getStatus() == OutboxStatus.PROCESSED) {
+                    dispatchLag.record(Duration.between(m.getCreatedAt(), m.getProcessedAt()));
+                    retries.record(m.getRetryCount());
+                } else if (m.getStatus() == OutboxStatus.DEAD_LETTER) {
+                    retries.record(m.getRetryCount());
+                }
+            }
+        });
+    }
+
+    void leasesExpired(int count) {
+        afterCommit(() -> {
+            counts.get(OutboxStatus.PROCESSING).addAndGet(-count);
+            counts.get(OutboxStatus.PENDING).addAndGet(count);
+        });
+    }
+
+    void redriven(int count) {
+        afterCommit(() -> {
+            counts.get(OutboxStatus.DEAD_LETTER).addAndGet(-count);
+            counts.get(OutboxStatus.PENDING).addAndGet(count);
+        });
+    }
+
+    void restored(int count) {
+        afterCommit(() -> {
+            restored.increment(count);
+            counts.get(OutboxStatus.SUPERSEDED).addAndGet(-count);
+            counts.get(OutboxStatus.PENDING).addAndGet(count);
+        });
+    }
+
+    void removed(OutboxStatus status, int count) {
+        afterCommit(() -> counts.get(status).addAndGet(-count));
+    }
+
+    @Scheduled(
+            initialDelay = 0,
+            fixedDelayString = "${zappschool.outbox.metrics.reconcile-interval-ms:30000}")
+    public void reconcile() {
+        Map<OutboxStatus, Long> actual = new EnumMap<>(OutboxStatus.class);
+        jdbcTemplate.query("SELECT status, count(*) FROM platform.outbox_messages GROUP BY status",
+                (RowCallbackHandler) rs -> actual.put(OutboxStatus.valueOf(rs.getString(1)), rs.getLong(2)));
+        counts.forEach((status, count) -> count.set(actual.getOrDefault(status, 0L)));
+
+        Timestamp oldest = jdbcTemplate.queryForObject(
+                "SELECT min(created_at) FROM platform.outbox_messages WHERE status = 'PENDING'", Timestamp.class);
+        oldestPendingCreatedAt = oldest != null ? oldest.toInstant() : null;
+    }
+
+    private double oldestPendingAgeSeconds() {
+        Instant oldest = oldestPendingCreatedAt;
+        if (oldest == null || counts.get(OutboxStatus.PENDING).get() <= 0) {
+            return 0;
+        }
+        return Duration.between(oldest, Instant.now()).toMillis() / 1000.0;
+    }
+
+    private static void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.nexora.synergy.infrastructure.outbox;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * OutboxNotificationListener — blocks on LISTEN and wakes the dispatch loop.
+ *
+ * Uses its own JDBC connection rather than one borrowed from Hikari: a LISTEN
+ * session lives for the whole process and would otherwise permanently shrink
+ * the pool. If the connection drops, the loop is told to fall back to short
+ * adaptive polling while this thread reconnects.
+ */
+@Component
+public class OutboxNotificationListener implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxNotificationListener.class);
+
+    private final DataSourceProperties dataSourceProperties;
+    private final OutboxDispatchLoop dispatchLoop;
+    private final String channel;
+    private final int blockTimeoutMs;
+    private final long reconnectDelayMs;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    public OutboxNotificationListener(
+            DataSourceProperties dataSourceProperties,
+            OutboxDispatchLoop dispatchLoop,
+            OutboxNotifier notifier,
+            @Value("${zappschool.outbox.listen-timeout-ms:10000}") int blockTimeoutMs,
+            @Value("${zappschool.outbox.listen-reconnect-ms:2000}") long reconnectDelayMs
+    ) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.dispatchLoop = dispatchLoop;
+        this.channel = notifier.getChannel();
+        this.blockTimeoutMs = blockTimeoutMs;
+        this.reconnectDelayMs = reconnectDelayMs;
+    }
+
+    @Override
+    public synchronized void start() {
+        running = true;
+        thread = Thread.ofPlatform().name("outbox-listen").daemon().start(this::run);
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        while (running) {
+            try (Connection conn = DriverManager.getConnection(
+                    dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword())) {
+                listen(conn);
+            } catch (SQLException e) {
+                log.warn("Outbox.listen.disconnected: channel={} error={}", channel, e.getMessage());
+            } finally {
+                dispatchLoop.listenerConnected(false);
+            }
+            if (running) {
+                try {
+                    Thread.sleep(reconnectDelayMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void listen(Connection conn) throws SQLException {
+        try (Statement st = conn.createStatement()) {
+            st.execute("LISTEN " + channel);
+        }
+        PGConnection pg = conn.unwrap(PGConnection.class);
+        dispatchLoop.listenerConnected(true);
+        // Catch anything committed between the last poll and LISTEN taking effect
+        dispatchLoop.wakeUp();
+        log.info("Outbox.listen.connected: channel={}", channel);
+
+        while (running) {
+            PGNotification[] notifications = pg.getNotifications(blockTimeoutMs);
+            if (notifications != null && notifications.length > 0) {
+                dispatchLoop.wakeUp();
+            } else if (!conn.isValid(2)) {
+                // Quiet channel — make sure it is quiet and not silently dead
+                throw new SQLException("LISTEN connection no longer valid");
+            }
+        }
+    }
+}
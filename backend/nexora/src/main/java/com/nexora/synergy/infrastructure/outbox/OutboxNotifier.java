@@ -0,0 +1,66 @@
+package com.nexora.synergy.infrastructure.outbox;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * OutboxNotifier — wakes idle dispatchers with PostgreSQL NOTIFY.
+ *
+ * NOTIFY is transactional in Postgres: issued inside the writing transaction,
+ * it is delivered to listeners only once that transaction commits, and
+ * dropped on rollback. So a listener can never wake up before the outbox row
+ * is visible.
+ *
+ * Registered once per transaction (beforeCommit), however many events the
+ * transaction writes — one extra statement per commit, not per event.
+ */
+@Component
+public class OutboxNotifier {
+
+    private static final Object SYNC_KEY = new Object();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String channel;
+
+    public OutboxNotifier(JdbcTemplate jdbcTemplate,
+            @Value("${zappschool.outbox.notify-channel:outbox_pending}") String channel) {
+        if (!channel.matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalArgumentException("Invalid NOTIFY channel name: " + channel);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.channel = channel;
+    }
+
+    public void signalPending() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            notifyNow();
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(SYNC_KEY)) {
+            return; // already scheduled for this transaction
+        }
+        TransactionSynchronizationManager.bindResource(SYNC_KEY, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                notifyNow();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(SYNC_KEY);
+            }
+        });
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    private void notifyNow() {
+        jdbcTemplate.execute("NOTIFY " + channel);
+    }
+}
@@ -0,0 +1,41 @@
+package com.nexora.synergy.infrastructure.outbox;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * OutboxPayloadCodec — one wire format for outbox payloads, identified by its
+ * content type (stored in platform.outbox_messages.content_type and sent as
+ * the AMQP content-type).
+ *
+ * Both formats are Jackson data models, so the same ObjectMapper
+ * configuration (modules, date handling) applies to each: only the
+ * JsonFactory differs.
+ */
+public final class OutboxPayloadCodec {
+
+    private final String contentType;
+    private final ObjectWriter writer;
+    private final ObjectMapper reader;
+
+    OutboxPayloadCodec(String contentType, ObjectMapper mapper) {
+        this.contentType = contentType;
+        this.writer = mapper.writer();
+        this.reader = mapper;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public byte[] encode(Object event) throws IOException {
+        return writer.writeValueAsBytes(event);
+    }
+
+    public JsonNode readTree(byte[] payload) throws IOException {
+        return reader.readTree(payload);
+    }
+}
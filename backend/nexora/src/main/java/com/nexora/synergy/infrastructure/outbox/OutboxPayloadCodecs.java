@@ -0,0 +1,97 @@
+package com.nexora.synergy.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+/**
+ * OutboxPayloadCodecs — the payload format new outbox rows are written in
+ * (zappschool.outbox.payload-format) and every format rows can be read in.
+ *
+ * 1. json — application/json, the historical format; rows written before
+ *    content_type existed (content_type NULL) are JSON
+ * 2. smile — application/x-jackson-smile, binary JSON: no reflection-heavy
+ *    text escaping/quoting, back-referenced field names, smaller rows and
+ *    messages
+ *
+ * Consumers pick the codec from the message's content-type, so switching the
+ * write format needs no coordinated deploy: old and new rows drain side by
+ * side.
+ */
+public final class OutboxPayloadCodecs {
+
+    public static final String JSON = "application/json";
+    public static final String SMILE = "application/x-jackson-smile";
+
+    private final ObjectMapper objectMapper;
+    private final OutboxPayloadCodec json;
+    private final OutboxPayloadCodec writeCodec;
+    private volatile OutboxPayloadCodec smile;
+
+    private OutboxPayloadCodecs(ObjectMapper objectMapper, String writeContentType) {
+        this.objectMapper = objectMapper;
+        this.json = new OutboxPayloadCodec(JSON, objectMapper);
+        this.writeCodec = forContentType(writeContentType);
+    }
+
+    /**
+     * @param format json | smile
+     */
+    public static OutboxPayloadCodecs jackson(ObjectMapper objectMapper, String format) {
+        return switch (format) {
+            case "json" -> new OutboxPayloadCodecs(objectMapper, JSON);
+            case "smile" -> new OutboxPayloadCodecs(objectMapper, SMILE);
+            default -> throw new IllegalArgumentException("Unknown outbox payload format: " + format);
+        };
+    }
+
+    /** The codec new payloads are encoded with. */
+    public OutboxPayloadCodec writer() {
+        return writeCodec;
+    }
+
+    /**
+     * The codec for a stored row or received message; null (pre-codec rows,
+     * producers that set no content-type) means JSON.
+     */
+    public OutboxPayloadCodec forContentType(String contentType) {
+        if (contentType == null || JSON.equals(contentType)) {
+            return json;
+        }
+        if (SMILE.equals(contentType)) {
+            return smile();
+        }
+        throw new IllegalArgumentException("Unsupported outbox payload content type: " + contentType);
+    }
+
+    /**
+     * Built on first use — at startup when smile is the write format,
+     * otherwise only once a Smile row or message shows up (another node
+     * writing Smile during a format switch).
+     */
+    private OutboxPayloadCodec smile() {
+        OutboxPayloadCodec codec = smile;
+        if (codec == null) {
+            synchronized (this) {
+                codec = smile;
+                if (codec == null) {
+                    codec = new OutboxPayloadCodec(SMILE, smileMapper(objectMapper));
+                    smile = codec;
+                }
+            }
+        }
+        return codec;
+    }
+
+    /**
+     * A Smile mapper with the same modules (found on the classpath, as
+     * Spring Boot's are) and the same serialization/deserialization features
+     * as the JSON mapper. ObjectMapper.copyWith() can't be used: JsonMapper
+     * refuses to be copied onto a non-JSON factory.
+     */
+    static ObjectMapper smileMapper(ObjectMapper jsonMapper) {
+        ObjectMapper mapper = SmileMapper.builder().findAndAddModules().build();
+        mapper.setConfig(jsonMapper.getSerializationConfig());
+        mapper.setConfig(jsonMapper.getDeserializationConfig());
+        return mapper;
+    }
+}
@@ -1,10 +1,12 @@
 package com.nexora.synergy.infrastructure.outbox;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -24,6 +26,45 @@ public interface OutboxRepository extends JpaRepository<OutboxMessage, UUID> {
         """, nativeQuery = true)
     List<OutboxMessage> findPendingForDispatch(@Param("now") Instant now, @Param("limit") int limit);
 
+    /**
+     * Ordered claim: due PENDING rows of the given aggregates that have no
+     * earlier row of the same aggregate still in flight (PROCESSING) or
+     * waiting for a retry (PENDING, not yet due). Returned in (created_at, id)
+     * order, so each aggregate's rows form a gap-free prefix of its backlog.
+     * Must run under the per-aggregate advisory locks taken by
+     * OutboxDispatchStore, which is what makes FOR UPDATE (without SKIP
+     * LOCKED) contention-free.
+     */
+    @Query(value = """
+        SELECT m.* FROM platform.outbox_messages m
+        WHERE m.status = 'PENDING' AND m.next_retry_at <= :now
+          AND m.aggregate_id IN (:aggregateIds)
+          AND NOT EXISTS (
+              SELECT 1 FROM platform.outbox_messages e
+              WHERE e.aggregate_id = m.aggregate_id
+                AND (e.created_at, e.id) < (m.created_at, m.id)
+                AND (e.status = 'PROCESSING' OR (e.status = 'PENDING' AND e.next_retry_at > :now)))
+        ORDER BY m.created_at, m.id LIMIT :limit
+        FOR UPDATE OF m
+        """, nativeQuery = true)
+    List<OutboxMessage> findOrderedPendingForDispatch(@Param("now") Instant now,
+            @Param("aggregateIds") Collection<String> aggregateIds, @Param("limit") int limit);
+
+    /**
+     * Flips a claimed batch to PROCESSING under a lease in one statement. Must
+     * run in the same transaction as findPendingForDispatch so the row locks
+     * are still held; once committed, other instances no longer see the rows
+     * as PENDING.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE OutboxMessage m
+        SET m.status = 'PROCESSING', m.lockedBy = :lockedBy, m.lockedUntil = :lockedUntil
+        WHERE m.id IN :ids
+        """)
+    int markProcessing(@Param("ids") Collection<UUID> ids, @Param("lockedBy") String lockedBy,
+            @Param("lockedUntil") Instant lockedUntil);
+
     Optional<OutboxMessage> findByIdempotencyKey(String idempotencyKey);
 
     @Query("SELECT COUNT(m) FROM OutboxMessage m WHERE m.status = 'PENDING'")
@@ -0,0 +1,26 @@
+package com.nexora.synergy.infrastructure.outbox;
+
+import java.util.Map;
+
+/**
+ * OutboxRetryPolicies — retry policy per outbox eventType, falling back to
+ * the defaults for types without their own entry.
+ */
+public final class OutboxRetryPolicies {
+
+    private final OutboxRetryPolicy defaults;
+    private final Map<String, OutboxRetryPolicy> byEventType;
+
+    public OutboxRetryPolicies(OutboxRetryPolicy defaults, Map<String, OutboxRetryPolicy> byEventType) {
+        this.defaults = defaults;
+        this.byEventType = Map.copyOf(byEventType);
+    }
+
+    public static OutboxRetryPolicies of(OutboxRetryPolicy defaults) {
+        return new OutboxRetryPolicies(defaults, Map.of());
+    }
+
+    public OutboxRetryPolicy policyFor(String eventType) {
+        return byEventType.getOrDefault(eventType, defaults);
+    }
+}
@@ -0,0 +1,84 @@
+package com.nexora.synergy.infrastructure.outbox;
+
+import java.time.Duration;
+import java.util.random.RandomGenerator;
+
+/**
+ * OutboxRetryPolicy — how long a failed message waits before its next
+ * attempt, and how many attempts it gets before DEAD_LETTER.
+ *
+ * AWS Equivalent: "Exponential Backoff And Jitter" (AWS Architecture Blog).
+ *
+ * With exp = min(maxDelay, baseDelay * 2^retryCount):
+ *
+ * 1. NONE — exp. Every message that failed together retries together.
+ * 2. FULL — uniform in [0, exp]. Spreads a failed wave over the whole window.
+ * 3. DECORRELATED — min(maxDelay, uniform in [baseDelay, 3 * previous]).
+ *    The previous delay is not stored on the row; it is estimated as the
+ *    un-jittered delay of the previous attempt, min(maxDelay, baseDelay *
+ *    2^(retryCount - 1)).
+ */
+public final class OutboxRetryPolicy {
+
+    public enum Jitter {
+        NONE, FULL, DECORRELATED
+    }
+
+    private final Jitter jitter;
+    private final Duration baseDelay;
+    private final Duration maxDelay;
+    private final int maxRetries;
+
+    public OutboxRetryPolicy(Jitter jitter, Duration baseDelay, Duration maxDelay, int maxRetries) {
+        if (baseDelay.isNegative() || baseDelay.isZero() || maxDelay.compareTo(baseDelay) < 0 || maxRetries < 1) {
+            throw new IllegalArgumentException("Invalid outbox retry policy: jitter=" + jitter + " base=" + baseDelay
+                    + " max=" + maxDelay + " maxRetries=" + maxRetries);
+        }
+        this.jitter = jitter;
+        this.baseDelay = baseDelay;
+        this.maxDelay = maxDelay;
+        this.maxRetries = maxRetries;
+    }
+
+    /**
+     * @param retryCount retries so far, including the one being scheduled (1 = first retry)
+     */
+    public Duration nextDelay(int retryCount, RandomGenerator random) {
+        long base = baseDelay.toMillis();
+        long exp = exponential(retryCount);
+        long delay = switch (jitter) {
+            case NONE -> exp;
+            case FULL -> random.nextLong(exp + 1);
+            case DECORRELATED -> {
+                long previous = exponential(retryCount - 1);
+                yield Math.min(maxDelay.toMillis(), random.nextLong(base, Math.max(base, 3 * previous) + 1));
+            }
+        };
+        return Duration.ofMillis(delay);
+    }
+
+    private long exponential(int retryCount) {
+        long base = baseDelay.toMillis();
+        long cap = maxDelay.toMillis();
+        if (retryCount >= Long.numberOfLeadingZeros(base) - 1) {
+            return cap; // base << retryCount would overflow
+        }
+        return Math.min(cap, base << Math.max(0, retryCount));
+    }
+
+    public Jitter getJitter() {
+        return jitter;
+    }
+
+    public Duration getBaseDelay() {
+        return baseDelay;
+    }
+
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+}
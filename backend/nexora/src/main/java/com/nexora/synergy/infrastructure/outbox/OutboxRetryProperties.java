@@ -0,0 +1,110 @@
+package com.nexora.synergy.infrastructure.outbox;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import com.nexora.synergy.infrastructure.outbox.OutboxRetryPolicy.Jitter;
+
+/**
+ * zappschool.outbox.retry — default retry policy plus per-eventType
+ * overrides. An override only needs the settings it changes; the rest come
+ * from the defaults. Event types contain dots, so quote them as map keys:
+ *
+ * <pre>
+ * zappschool.outbox.retry:
+ *   defaults: { jitter: full, base-delay: 1s, max-delay: 5m, max-retries: 5 }
+ *   event-types:
+ *     "[tenant.suspended.v1]": { max-retries: 10 }
+ * </pre>
+ */
+@ConfigurationProperties(prefix = "zappschool.outbox.retry")
+public class OutboxRetryProperties {
+
+    private Policy defaults = new Policy(Jitter.FULL, Duration.ofSeconds(1), Duration.ofMinutes(5), 5);
+    private Map<String, Policy> eventTypes = new LinkedHashMap<>();
+
+    public OutboxRetryPolicies toPolicies() {
+        OutboxRetryPolicy fallback = defaults.resolve(null);
+        Map<String, OutboxRetryPolicy> byEventType = new HashMap<>();
+        eventTypes.forEach((eventType, policy) -> byEventType.put(eventType, policy.resolve(defaults)));
+        return new OutboxRetryPolicies(fallback, byEventType);
+    }
+
+    public Policy getDefaults() {
+        return defaults;
+    }
+
+    public void setDefaults(Policy defaults) {
+        this.defaults = defaults;
+    }
+
+    public Map<String, Policy> getEventTypes() {
+        return eventTypes;
+    }
+
+    public void setEventTypes(Map<String, Policy> eventTypes) {
+        this.eventTypes = eventTypes;
+    }
+
+    public static class Policy {
+
+        private Jitter jitter;
+        private Duration baseDelay;
+        private Duration maxDelay;
+        private Integer maxRetries;
+
+        public Policy() {
+        }
+
+        Policy(Jitter jitter, Duration baseDelay, Duration maxDelay, Integer maxRetries) {
+            this.jitter = jitter;
+            this.baseDelay = baseDelay;
+            this.maxDelay = maxDelay;
+            this.maxRetries = maxRetries;
+        }
+
+        OutboxRetryPolicy resolve(Policy parent) {
+            return new OutboxRetryPolicy(
+                    jitter != null ? jitter : parent.jitter,
+                    baseDelay != null ? baseDelay : parent.baseDelay,
+                    maxDelay != null ? maxDelay : parent.maxDelay,
+                    maxRetries != null ? maxRetries : parent.maxRetries);
+        }
+
+        public Jitter getJitter() {
+            return jitter;
+        }
+
+        public void setJitter(Jitter jitter) {
+            this.jitter = jitter;
+        }
+
+        public Duration getBaseDelay() {
+            return baseDelay;
+        }
+
+        public void setBaseDelay(Duration baseDelay) {
+            this.baseDelay = baseDelay;
+        }
+
+        public Duration getMaxDelay() {
+            return maxDelay;
+        }
+
+        public void setMaxDelay(Duration maxDelay) {
+            this.maxDelay = maxDelay;
+        }
+
+        public Integer getMaxRetries() {
+            return maxRetries;
+        }
+
+        public void setMaxRetries(Integer maxRetries) {
+            this.maxRetries = maxRetries;
+        }
+    }
+}
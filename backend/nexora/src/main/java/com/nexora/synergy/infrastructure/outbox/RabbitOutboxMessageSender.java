@@ -0,0 +1,69 @@
+package com.nexora.synergy.infrastructure.outbox;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * RabbitOutboxMessageSender — publishes outbox rows to the platform topic
+ * exchange with publisher confirms (spring.rabbitmq.publisher-confirm-type:
+ * correlated).
+ *
+ * Routing key = eventType (e.g. "tenant.registered.v1"), messageId = eventId,
+ * so consumers can deduplicate at-least-once redeliveries. content-type is
+ * the row's payload format (OutboxPayloadCodecs).
+ */
+@Component
+public class RabbitOutboxMessageSender implements OutboxMessageSender {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final String exchange;
+    private final long confirmTimeoutMs;
+
+    public RabbitOutboxMessageSender(
+            RabbitTemplate rabbitTemplate,
+            @Value("${zappschool.outbox.exchange:nexora.events}") String exchange,
+            @Value("${zappschool.outbox.confirm-timeout-ms:5000}") long confirmTimeoutMs
+    ) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.exchange = exchange;
+        this.confirmTimeoutMs = confirmTimeoutMs;
+    }
+
+    @Override
+    public void send(OutboxMessage m) throws Exception {
+        MessageProperties props = new MessageProperties();
+        props.setMessageId(m.getIdempotencyKey());
+        props.setCorrelationId(m.getCorrelationId());
+        props.setType(m.getEventType());
+        props.setContentType(m.getContentType());
+        if (OutboxPayloadCodecs.JSON.equals(m.getContentType())) {
+            props.setContentEncoding(StandardCharsets.UTF_8.name());
+        }
+        props.setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+        props.setTimestamp(Date.from(m.getCreatedAt()));
+        props.setHeader("aggregateType", m.getAggregateType());
+        props.setHeader("aggregateId", m.getAggregateId());
+
+        Message message = new Message(m.getPayloadBytes(), props);
+        CorrelationData confirm = new CorrelationData(m.getId().toString());
+        rabbitTemplate.send(exchange, m.getEventType(), message, confirm);
+
+        CorrelationData.Confirm result = confirm.getFuture().get(confirmTimeoutMs, TimeUnit.MILLISECONDS);
+        if (!result.isAck()) {
+            throw new AmqpException("Broker nacked " + m.getEventType() + ": " + result.getReason());
+        }
+        if (confirm.getReturned() != null) {
+            throw new AmqpException("Unroutable " + m.getEventType() + ": " + confirm.getReturned().getReplyText());
+        }
+    }
+}
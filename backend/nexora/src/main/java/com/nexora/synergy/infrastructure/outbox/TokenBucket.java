@@ -0,0 +1,50 @@
+package com.nexora.synergy.infrastructure.outbox;
+
+/**
+ * Token bucket: permits refill continuously at ratePerSecond, up to capacity
+ * (the largest burst). acquire() blocks until enough tokens are available.
+ */
+final class TokenBucket {
+
+    private final double ratePerNano;
+    private final double capacity;
+    private double tokens;
+    private long refilledAt;
+
+    TokenBucket(double ratePerSecond, double capacity) {
+        if (ratePerSecond <= 0 || capacity < 1) {
+            throw new IllegalArgumentException("rate and capacity must be positive");
+        }
+        this.ratePerNano = ratePerSecond / 1_000_000_000.0;
+        this.capacity = capacity;
+        this.tokens = capacity;
+        this.refilledAt = System.nanoTime();
+    }
+
+    /**
+     * Takes permits tokens (at most capacity), waiting for the refill if
+     * needed.
+     *
+     * @return nanoseconds spent waiting
+     */
+    synchronized long acquire(int permits) throws InterruptedException {
+        double wanted = Math.min(permits, capacity);
+        long waited = 0;
+        refill();
+        while (tokens < wanted) {
+            long sleepNanos = (long) Math.ceil((wanted - tokens) / ratePerNano);
+            long started = System.nanoTime();
+            wait(sleepNanos / 1_000_000, (int) (sleepNanos % 1_000_000));
+            waited += System.nanoTime() - started;
+            refill();
+        }
+        tokens -= wanted;
+        return waited;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - refilledAt) * ratePerNano);
+        refilledAt = now;
+    }
+}
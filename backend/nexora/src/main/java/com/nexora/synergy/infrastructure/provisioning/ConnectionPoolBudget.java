@@ -0,0 +1,36 @@
+package com.nexora.synergy.infrastructure.provisioning;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fails startup when the provisioning workers could take every pooled
+ * connection.
+ *
+ * Each provisioning run (zappschool.provisioning.parallelism) and each bulk
+ * migration worker (migrate-all-parallelism) holds a JDBC connection for its
+ * whole duration; with both running at full width, the Hikari pool must still
+ * have one left for requests and the outbox.
+ */
+@Component
+public class ConnectionPoolBudget {
+
+    private static final Logger log = LoggerFactory.getLogger(ConnectionPoolBudget.class);
+
+    public ConnectionPoolBudget(
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${zappschool.provisioning.parallelism:4}") int provisioningParallelism,
+            @Value("${zappschool.provisioning.migrate-all-parallelism:4}") int migrateAllParallelism
+    ) {
+        int reserved = provisioningParallelism + migrateAllParallelism;
+        if (reserved >= maximumPoolSize) {
+            throw new IllegalStateException("zappschool.provisioning.parallelism (" + provisioningParallelism
+                    + ") + migrate-all-parallelism (" + migrateAllParallelism
+                    + ") must be below spring.datasource.hikari.maximum-pool-size (" + maximumPoolSize + ")");
+        }
+        log.info("ConnectionPoolBudget.checked: poolSize={} provisioning={} migrateAll={}",
+                maximumPoolSize, provisioningParallelism, migrateAllParallelism);
+    }
+}
@@ -0,0 +1,122 @@
+package com.nexora.synergy.infrastructure.provisioning;
+
+import java.sql.Connection;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+
+import com.nexora.synergy.platform.application.tenant.provisioning.TenantSchemaMigrator;
+import com.nexora.synergy.platform.application.tenant.provisioning.TenantSchemaProvisioner;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * FlywayTenantSchemaProvisioner — applies db/migration/tenant to one schema.
+ *
+ * Per-tenant isolation: every run gets its own Flyway instance and the schema
+ * keeps its own flyway_schema_history, so tenants migrate (and fail)
+ * independently and can run in parallel without sharing a lock.
+ *
+ * Bounded in the database: a run holds ONE pooled connection with
+ * statement_timeout (zappschool.provisioning.timeout-seconds) and lock_timeout
+ * (lock-timeout-seconds) set for its duration and reset before the connection
+ * goes back to the pool. Interrupting the worker does not stop Flyway — these
+ * do, so a run TenantProvisioningService gave up on ends within one statement
+ * timeout.
+ *
+ * Timing: tenant.schema.migration{mode, outcome}; the schema is in the log
+ * line, not a tag (one series per tenant would never stop growing).
+ */
+@Component
+public class FlywayTenantSchemaProvisioner implements TenantSchemaProvisioner, TenantSchemaMigrator {
+
+    private static final Logger log = LoggerFactory.getLogger(FlywayTenantSchemaProvisioner.class);
+
+    private final DataSource dataSource;
+    private final MeterRegistry meterRegistry;
+    private final String[] locations;
+    private final String statementTimeout;
+    private final String lockTimeout;
+
+    public FlywayTenantSchemaProvisioner(
+            DataSource dataSource,
+            MeterRegistry meterRegistry,
+            @Value("${zappschool.provisioning.migration-locations:classpath:db/migration/tenant}") String[] locations,
+            @Value("${zappschool.provisioning.timeout-seconds:120}") long timeoutSeconds,
+            @Value("${zappschool.provisioning.lock-timeout-seconds:30}") long lockTimeoutSeconds
+    ) {
+        this.dataSource = dataSource;
+        this.meterRegistry = meterRegistry;
+        this.locations = locations;
+        this.statementTimeout = timeoutSeconds + "s";
+        this.lockTimeout = lockTimeoutSeconds + "s";
+    }
+
+    @Override
+    public void provision(String schemaName) {
+        run(schemaName, "provision");
+    }
+
+    @Override
+    public int migrate(String schemaName) {
+        return run(schemaName, "upgrade").migrationsExecuted;
+    }
+
+    /**
+     * Applies the provisioning timeouts to the caller's connection —
+     * transaction-local (SET LOCAL semantics) when transactionLocal, else for
+     * the session until reset.
+     */
+    void limit(JdbcTemplate connection, boolean transactionLocal) {
+        connection.queryForObject("SELECT set_config('statement_timeout', ?, ?)", String.class,
+                statementTimeout, transactionLocal);
+        connection.queryForObject("SELECT set_config('lock_timeout', ?, ?)", String.class,
+                lockTimeout, transactionLocal);
+    }
+
+    private MigrateResult run(String schemaName, String mode) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            MigrateResult result = new JdbcTemplate(dataSource).execute(
+                    (ConnectionCallback<MigrateResult>) connection -> migrate(connection, schemaName));
+            outcome = "success";
+            log.info("TenantSchema.migrated: schema={} mode={} applied={} version={}",
+                    schemaName, mode, result.migrationsExecuted, result.targetSchemaVersion);
+            return result;
+        } catch (RuntimeException e) {
+            log.warn("TenantSchema.migration.failed: schema={} mode={} reason={}", schemaName, mode, e.toString());
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("tenant.schema.migration", "mode", mode, "outcome", outcome));
+        }
+    }
+
+    private MigrateResult migrate(Connection connection, String schemaName) {
+        JdbcTemplate session = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+        limit(session, false);
+        try {
+            return Flyway.configure()
+                    .dataSource(session.getDataSource())
+                    .schemas(schemaName)
+                    .defaultSchema(schemaName)
+                    .createSchemas(true)
+                    .locations(locations)
+                    .load()
+                    .migrate();
+        } finally {
+            // session settings outlive the run on a pooled connection
+            session.execute("RESET statement_timeout; RESET lock_timeout");
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.nexora.synergy.infrastructure.provisioning;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+/**
+ * Fingerprint of the tenant migration scripts (file names + contents).
+ *
+ * Changes whenever a migration is added or edited, so anything pre-built from
+ * the migrations (template schema, warm pool) knows when it is stale. Accepts
+ * Flyway-style locations ("classpath:...", "filesystem:...").
+ */
+final class MigrationChecksum {
+
+    private MigrationChecksum() {
+    }
+
+    static String of(String[] locations) {
+        try {
+            PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+            List<Resource> scripts = new ArrayList<>();
+            for (String location : locations) {
+                String base = location.startsWith("filesystem:")
+                        ? "file:" + location.substring("filesystem:".length())
+                        : location.replaceFirst("^classpath:", "classpath*:");
+                for (Resource r : resolver.getResources(base + "/**/*.sql")) {
+                    scripts.add(r);
+                }
+            }
+            scripts.sort(Comparator.comparing(Resource::getFilename));
+
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Resource script : scripts) {
+                digest.update(script.getFilename().getBytes(StandardCharsets.UTF_8));
+                try (InputStream in = script.getInputStream()) {
+                    digest.update(in.readAllBytes());
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest(), 0, 16);
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Cannot fingerprint tenant migrations", e);
+        }
+    }
+}
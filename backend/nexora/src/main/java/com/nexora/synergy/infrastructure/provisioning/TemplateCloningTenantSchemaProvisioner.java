@@ -0,0 +1,209 @@
+package com.nexora.synergy.infrastructure.provisioning;
+
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nexora.synergy.platform.application.tenant.provisioning.TenantSchemaProvisioner;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * TemplateCloningTenantSchemaProvisioner — new tenant schemas as a copy of a
+ * pre-migrated "tenant_template" schema.
+ *
+ * Running every migration per tenant costs O(migrations); copying the
+ * resulting DDL costs O(tables), done in ONE transaction (all or nothing):
+ * tables via CREATE TABLE ... (LIKE ... INCLUDING ALL), their rows (seed data
+ * and flyway_schema_history, so later Flyway upgrades see the clone as
+ * current), owned sequences, then foreign keys. The transaction runs under
+ * the provisioning statement and lock timeouts (SET LOCAL), like a Flyway run.
+ *
+ * The template is rebuilt only when the migration checksum changes; the
+ * checksum lives in the template schema's COMMENT. Rebuilds hold the
+ * template's advisory lock exclusively and clones hold it shared, so a node
+ * whose migrations changed cannot drop the template while another node is
+ * copying from it. Templates containing
+ * objects LIKE cannot copy (views, functions, triggers) are not cloned — such
+ * tenants fall back to a regular Flyway run.
+ */
+public class TemplateCloningTenantSchemaProvisioner implements TenantSchemaProvisioner {
+
+    private static final Logger log = LoggerFactory.getLogger(TemplateCloningTenantSchemaProvisioner.class);
+
+    static final String TEMPLATE_SCHEMA = "tenant_template";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final FlywayTenantSchemaProvisioner flyway;
+    private final MeterRegistry meterRegistry;
+    private final String migrationChecksum;
+
+    private volatile boolean templateVerified;
+    private volatile boolean templateCloneable;
+
+    public TemplateCloningTenantSchemaProvisioner(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            FlywayTenantSchemaProvisioner flyway,
+            MeterRegistry meterRegistry,
+            String[] migrationLocations
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.flyway = flyway;
+        this.meterRegistry = meterRegistry;
+        this.migrationChecksum = MigrationChecksum.of(migrationLocations);
+    }
+
+    @Override
+    public void provision(String schemaName) {
+        ensureTemplate();
+        if (!templateCloneable || schemaExists(schemaName)) {
+            // Fallback, or a retry after the schema was already created: Flyway
+            // is idempotent and brings it to the current version.
+            flyway.provision(schemaName);
+            return;
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        transactionTemplate.executeWithoutResult(tx -> cloneTemplate(schemaName));
+        sample.stop(meterRegistry.timer("tenant.schema.clone"));
+        log.info("TenantSchema.cloned: schema={} template={} checksum={}",
+                schemaName, TEMPLATE_SCHEMA, migrationChecksum);
+    }
+
+    /**
+     * Current migration checksum — what an up-to-date template (or a pooled
+     * schema built from it) is stamped with.
+     */
+    public String getMigrationChecksum() {
+        return migrationChecksum;
+    }
+
+    /**
+     * Verifies the template once per process; rebuilds it under a cluster-wide
+     * advisory lock, taken exclusively (clones take it shared), if its checksum
+     * does not match the migrations on the classpath.
+     */
+    public synchronized void ensureTemplate() {
+        if (templateVerified) {
+            return;
+        }
+        // Exclusive session-level lock held on one connection: Flyway rebuilds the
+        // template on its own connection, so the DROP must be committed before it runs.
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            JdbcTemplate session = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            session.queryForObject("SELECT pg_advisory_lock(hashtext(?))", Object.class, TEMPLATE_SCHEMA);
+            try {
+                List<String> stamp = session.queryForList(
+                        "SELECT obj_description(oid, 'pg_namespace') FROM pg_namespace WHERE nspname = ?",
+                        String.class, TEMPLATE_SCHEMA);
+                if (stamp.isEmpty() || !migrationChecksum.equals(stamp.get(0))) {
+                    log.info("TenantTemplate.rebuild: previous={} current={}",
+                            stamp.isEmpty() ? "none" : stamp.get(0), migrationChecksum);
+                    session.execute("DROP SCHEMA IF EXISTS " + TEMPLATE_SCHEMA + " CASCADE");
+                    flyway.provision(TEMPLATE_SCHEMA);
+                    session.execute("COMMENT ON SCHEMA " + TEMPLATE_SCHEMA + " IS '" + migrationChecksum + "'");
+                }
+            } finally {
+                session.queryForObject("SELECT pg_advisory_unlock(hashtext(?))", Object.class, TEMPLATE_SCHEMA);
+            }
+            return null;
+        });
+        templateCloneable = countUncloneableObjects() == 0;
+        if (!templateCloneable) {
+            log.warn("TenantTemplate.uncloneable: template has views/functions/triggers, using Flyway per tenant");
+        }
+        templateVerified = true;
+    }
+
+    private void cloneTemplate(String schema) {
+        flyway.limit(jdbcTemplate, true);
+        // Shared with other clones, released on commit; waits out a rebuild in progress
+        jdbcTemplate.queryForObject("SELECT pg_advisory_xact_lock_shared(hashtext(?))", Object.class,
+                TEMPLATE_SCHEMA);
+        String target = quote(schema);
+        jdbcTemplate.execute("CREATE SCHEMA " + target);
+
+        List<String> tables = jdbcTemplate.queryForList("""
+                SELECT c.relname FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace
+                WHERE n.nspname = ? AND c.relkind = 'r' ORDER BY c.relname
+                """, String.class, TEMPLATE_SCHEMA);
+        for (String table : tables) {
+            jdbcTemplate.execute("CREATE TABLE " + target + "." + quote(table)
+                    + " (LIKE " + TEMPLATE_SCHEMA + "." + quote(table) + " INCLUDING ALL)");
+        }
+
+        // serial/bigserial defaults still point at the template's sequences
+        List<Map<String, Object>> serials = jdbcTemplate.queryForList("""
+                SELECT c.relname AS table_name, a.attname AS column_name, s.relname AS sequence_name
+                FROM pg_depend d
+                JOIN pg_class s ON s.oid = d.objid AND s.relkind = 'S'
+                JOIN pg_class c ON c.oid = d.refobjid
+                JOIN pg_attribute a ON a.attrelid = c.oid AND a.attnum = d.refobjsubid
+                JOIN pg_namespace n ON n.oid = s.relnamespace
+                WHERE n.nspname = ? AND d.deptype = 'a'
+                """, TEMPLATE_SCHEMA);
+        for (Map<String, Object> serial : serials) {
+            String table = target + "." + quote((String) serial.get("table_name"));
+            String column = quote((String) serial.get("column_name"));
+            String sequence = target + "." + quote((String) serial.get("sequence_name"));
+            jdbcTemplate.execute("CREATE SEQUENCE " + sequence + " OWNED BY " + table + "." + column);
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN " + column
+                    + " SET DEFAULT nextval('" + sequence.replace("'", "''") + "')");
+        }
+
+        for (String table : tables) {
+            jdbcTemplate.execute("INSERT INTO " + target + "." + quote(table)
+                    + " SELECT * FROM " + TEMPLATE_SCHEMA + "." + quote(table));
+        }
+        for (Map<String, Object> serial : serials) {
+            String sequence = quote((String) serial.get("sequence_name"));
+            jdbcTemplate.queryForObject("SELECT setval(?::regclass, last_value, is_called) FROM "
+                    + TEMPLATE_SCHEMA + "." + sequence, Object.class, target + "." + sequence);
+        }
+
+        // Constraint definitions rendered relative to the template, replayed relative to the clone
+        jdbcTemplate.execute("SET LOCAL search_path TO " + TEMPLATE_SCHEMA);
+        List<Map<String, Object>> foreignKeys = jdbcTemplate.queryForList("""
+                SELECT c.relname AS table_name, k.conname AS name, pg_get_constraintdef(k.oid) AS definition
+                FROM pg_constraint k JOIN pg_class c ON c.oid = k.conrelid
+                WHERE k.contype = 'f' AND k.connamespace = ?::regnamespace
+                """, TEMPLATE_SCHEMA);
+        jdbcTemplate.execute("SET LOCAL search_path TO " + target);
+        for (Map<String, Object> fk : foreignKeys) {
+            jdbcTemplate.execute("ALTER TABLE " + target + "." + quote((String) fk.get("table_name"))
+                    + " ADD CONSTRAINT " + quote((String) fk.get("name")) + " " + fk.get("definition"));
+        }
+    }
+
+    private boolean schemaExists(String schema) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_namespace WHERE nspname = ?)", Boolean.class, schema));
+    }
+
+    private int countUncloneableObjects() {
+        Integer count = jdbcTemplate.queryForObject("""
+                SELECT (SELECT count(*) FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace
+                        WHERE n.nspname = ? AND c.relkind IN ('v', 'm', 'p'))
+                     + (SELECT count(*) FROM pg_proc p JOIN pg_namespace n ON n.oid = p.pronamespace
+                        WHERE n.nspname = ?)
+                     + (SELECT count(*) FROM pg_trigger t JOIN pg_class c ON c.oid = t.tgrelid
+                        JOIN pg_namespace n ON n.oid = c.relnamespace
+                        WHERE n.nspname = ? AND NOT t.tgisinternal)
+                """, Integer.class, TEMPLATE_SCHEMA, TEMPLATE_SCHEMA, TEMPLATE_SCHEMA);
+        return count != null ? count : 0;
+    }
+
+    private static String quote(String identifier) {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+}
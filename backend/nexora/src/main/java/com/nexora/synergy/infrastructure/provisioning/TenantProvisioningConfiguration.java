@@ -0,0 +1,80 @@
+package com.nexora.synergy.infrastructure.provisioning;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.nexora.synergy.platform.application.tenant.provisioning.TenantSchemaProvisioner;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Selects how new tenant schemas are built (zappschool.provisioning.mode):
+ *
+ * 1. flyway (default) — every migration runs against the new schema
+ * 2. template — the schema is cloned from a pre-migrated tenant_template
+ *
+ * With zappschool.provisioning.warm-pool.enabled, either mode only builds
+ * pool schemas in the background; tenants claim a ready one.
+ *
+ * Upgrading existing schemas (TenantSchemaMigrator) is always Flyway.
+ */
+@Configuration
+public class TenantProvisioningConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(name = "zappschool.provisioning.mode", havingValue = "template")
+    public TemplateCloningTenantSchemaProvisioner templateCloningTenantSchemaProvisioner(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            FlywayTenantSchemaProvisioner flywayProvisioner,
+            MeterRegistry meterRegistry,
+            @Value("${zappschool.provisioning.migration-locations:classpath:db/migration/tenant}") String[] locations
+    ) {
+        return new TemplateCloningTenantSchemaProvisioner(
+                jdbcTemplate, transactionManager, flywayProvisioner, meterRegistry, locations);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "zappschool.provisioning.warm-pool.enabled", havingValue = "true")
+    public TenantSchemaWarmPool tenantSchemaWarmPool(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            FlywayTenantSchemaProvisioner flywayProvisioner,
+            ObjectProvider<TemplateCloningTenantSchemaProvisioner> templateProvisioner,
+            MeterRegistry meterRegistry,
+            @Value("${zappschool.provisioning.migration-locations:classpath:db/migration/tenant}") String[] locations,
+            @Value("${zappschool.provisioning.warm-pool.size:10}") int size,
+            @Value("${zappschool.provisioning.warm-pool.refill-batch:2}") int refillBatch
+    ) {
+        TenantSchemaProvisioner builder = templateProvisioner.getIfAvailable();
+        return new TenantSchemaWarmPool(jdbcTemplate, transactionManager,
+                builder != null ? builder : flywayProvisioner, meterRegistry, locations, size, refillBatch);
+    }
+
+    /**
+     * The provisioner TenantProvisioningService uses: warm pool if enabled,
+     * else template cloning if selected, else plain Flyway.
+     */
+    @Bean
+    @Primary
+    public TenantSchemaProvisioner tenantSchemaProvisioner(
+            FlywayTenantSchemaProvisioner flywayProvisioner,
+            ObjectProvider<TemplateCloningTenantSchemaProvisioner> templateProvisioner,
+            ObjectProvider<TenantSchemaWarmPool> warmPool
+    ) {
+        // method references, not the beans themselves: the pool's @Scheduled
+        // refill must stay registered once
+        TenantSchemaWarmPool pool = warmPool.getIfAvailable();
+        if (pool != null) {
+            return pool::provision;
+        }
+        TemplateCloningTenantSchemaProvisioner template = templateProvisioner.getIfAvailable();
+        return template != null ? template::provision : flywayProvisioner::provision;
+    }
+}
@@ -0,0 +1,29 @@
+package com.nexora.synergy.infrastructure.provisioning;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.nexora.synergy.platform.application.tenant.service.TenantSchemaMigrationService;
+
+/**
+ * Runs the bulk "migrate all tenant schemas" mode at startup when
+ * zappschool.provisioning.migrate-all-on-startup=true (e.g. a one-off
+ * release job).
+ */
+@Component
+@ConditionalOnProperty(name = "zappschool.provisioning.migrate-all-on-startup", havingValue = "true")
+public class TenantSchemaMigrationRunner implements ApplicationRunner {
+
+    private final TenantSchemaMigrationService migrationService;
+
+    public TenantSchemaMigrationRunner(TenantSchemaMigrationService migrationService) {
+        this.migrationService = migrationService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        migrationService.migrateAll();
+    }
+}
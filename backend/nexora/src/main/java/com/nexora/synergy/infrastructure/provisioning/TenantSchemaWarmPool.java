@@ -0,0 +1,186 @@
+package com.nexora.synergy.infrastructure.provisioning;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nexora.synergy.platform.application.tenant.provisioning.TenantSchemaProvisioner;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * TenantSchemaWarmPool — keeps N empty, fully migrated schemas ready so that
+ * PROVISIONING → ACTIVE only has to claim one.
+ *
+ * 1. Claim: DELETE one pool row (FOR UPDATE SKIP LOCKED, so concurrent
+ *    claims never wait on each other) and ALTER SCHEMA ... RENAME TO the
+ *    tenant schema — one transaction, milliseconds.
+ * 2. Miss (pool empty, or the schema already exists on a retry): falls
+ *    through to the underlying provisioner (Flyway or template clone).
+ * 3. Refill: every refill-interval-ms one node (advisory lock) drops pooled
+ *    schemas built from older migrations and builds up to refill-batch new
+ *    ones until the pool holds size schemas.
+ *
+ * Metrics: tenant.schema.pool.available (gauge), tenant.schema.pool.claim
+ * {outcome=hit|miss} (timer), tenant.schema.pool.refilled (counter). The pool
+ * is shared, so every node — not only the one refilling — recounts its ready
+ * rows on each refill tick; between ticks a node's own claims lower it.
+ */
+public class TenantSchemaWarmPool implements TenantSchemaProvisioner {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantSchemaWarmPool.class);
+
+    private static final String POOL_PREFIX = "tenant_pool_";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TenantSchemaProvisioner builder;
+    private final MeterRegistry meterRegistry;
+    private final String migrationChecksum;
+    private final int size;
+    private final int refillBatch;
+    private final AtomicInteger available = new AtomicInteger();
+
+    public TenantSchemaWarmPool(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            TenantSchemaProvisioner builder,
+            MeterRegistry meterRegistry,
+            String[] migrationLocations,
+            int size,
+            int refillBatch
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.builder = builder;
+        this.meterRegistry = meterRegistry;
+        this.migrationChecksum = MigrationChecksum.of(migrationLocations);
+        this.size = size;
+        this.refillBatch = refillBatch;
+        meterRegistry.gauge("tenant.schema.pool.available", available);
+    }
+
+    @Override
+    public void provision(String schemaName) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String claimed = transactionTemplate.execute(tx -> claim(schemaName));
+        sample.stop(meterRegistry.timer("tenant.schema.pool.claim", "outcome", claimed != null ? "hit" : "miss"));
+        if (claimed != null) {
+            available.updateAndGet(n -> Math.max(0, n - 1));
+            log.info("TenantSchemaPool.claimed: pooled={} schema={}", claimed, schemaName);
+            return;
+        }
+        log.info("TenantSchemaPool.miss: schema={} building on demand", schemaName);
+        builder.provision(schemaName);
+    }
+
+    private String claim(String schemaName) {
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_namespace WHERE nspname = ?)", Boolean.class, schemaName))) {
+            return null; // redelivery after a claim: let the builder bring it up to date
+        }
+        List<String> pooled = jdbcTemplate.queryForList("""
+                DELETE FROM platform.tenant_schema_pool
+                WHERE schema_name = (
+                    SELECT schema_name FROM platform.tenant_schema_pool
+                    WHERE checksum = ?
+                    ORDER BY created_at
+                    LIMIT 1
+                    FOR UPDATE SKIP LOCKED)
+                RETURNING schema_name
+                """, String.class, migrationChecksum);
+        if (pooled.isEmpty()) {
+            return null;
+        }
+        jdbcTemplate.execute("ALTER SCHEMA " + quote(pooled.get(0)) + " RENAME TO " + quote(schemaName));
+        return pooled.get(0);
+    }
+
+    @Scheduled(
+            initialDelayString = "${zappschool.provisioning.warm-pool.refill-interval-ms:5000}",
+            fixedDelayString = "${zappschool.provisioning.warm-pool.refill-interval-ms:5000}")
+    public void refill() {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            JdbcTemplate session = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            Boolean locked = session.queryForObject(
+                    "SELECT pg_try_advisory_lock(hashtext('platform.tenant_schema_pool'))", Boolean.class);
+            if (!Boolean.TRUE.equals(locked)) {
+                available.set(countReady()); // another node is refilling
+                return null;
+            }
+            try {
+                dropStale();
+                int ready = countReady();
+                int built = 0;
+                while (ready + built < size && built < refillBatch) {
+                    if (!buildOne()) {
+                        break;
+                    }
+                    built++;
+                }
+                available.set(ready + built);
+                if (built > 0) {
+                    log.info("TenantSchemaPool.refilled: built={} available={} target={}", built, ready + built, size);
+                }
+            } finally {
+                session.queryForObject("SELECT pg_advisory_unlock(hashtext('platform.tenant_schema_pool'))",
+                        Boolean.class);
+            }
+            return null;
+        });
+    }
+
+    private void dropStale() {
+        transactionTemplate.executeWithoutResult(tx -> {
+            List<String> stale = jdbcTemplate.queryForList("""
+                    DELETE FROM platform.tenant_schema_pool
+                    WHERE schema_name IN (
+                        SELECT schema_name FROM platform.tenant_schema_pool
+                        WHERE checksum <> ?
+                        FOR UPDATE SKIP LOCKED)
+                    RETURNING schema_name
+                    """, String.class, migrationChecksum);
+            for (String schema : stale) {
+                jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + quote(schema) + " CASCADE");
+            }
+            if (!stale.isEmpty()) {
+                log.info("TenantSchemaPool.staleDropped: count={}", stale.size());
+            }
+        });
+    }
+
+    private int countReady() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM platform.tenant_schema_pool WHERE checksum = ?", Integer.class, migrationChecksum);
+        return count != null ? count : 0;
+    }
+
+    private boolean buildOne() {
+        String schema = POOL_PREFIX + UUID.randomUUID().toString().replace("-", "").substring(0, 16);
+        try {
+            builder.provision(schema);
+            jdbcTemplate.update("INSERT INTO platform.tenant_schema_pool (schema_name, checksum) VALUES (?, ?)",
+                    schema, migrationChecksum);
+            meterRegistry.counter("tenant.schema.pool.refilled").increment();
+            return true;
+        } catch (RuntimeException e) {
+            log.error("TenantSchemaPool.build.failed: schema={} error={}", schema, e.getMessage());
+            jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + quote(schema) + " CASCADE");
+            return false;
+        }
+    }
+
+    private static String quote(String identifier) {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+}
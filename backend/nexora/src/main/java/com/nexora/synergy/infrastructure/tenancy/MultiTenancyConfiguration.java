@@ -0,0 +1,39 @@
+package com.nexora.synergy.infrastructure.tenancy;
+
+import javax.sql.DataSource;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires schema-per-tenant routing into Hibernate. Platform entities carry an
+ * explicit schema ("platform") and are unaffected by the search_path switch.
+ */
+@Configuration
+public class MultiTenancyConfiguration {
+
+    @Bean
+    public TenantSchemaConnectionProvider tenantSchemaConnectionProvider(DataSource dataSource,
+            @Value("${zappschool.tenant.default-schema:public}") String defaultSchema) {
+        return new TenantSchemaConnectionProvider(dataSource, defaultSchema);
+    }
+
+    @Bean
+    public TenantIdentifierResolver tenantIdentifierResolver(
+            @Value("${zappschool.tenant.default-schema:public}") String defaultSchema) {
+        return new TenantIdentifierResolver(defaultSchema);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer multiTenancyCustomizer(
+            TenantSchemaConnectionProvider connectionProvider,
+            TenantIdentifierResolver identifierResolver) {
+        return properties -> {
+            properties.put(AvailableSettings.MULTI_TENANT_CONNECTION_PROVIDER, connectionProvider);
+            properties.put(AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER, identifierResolver);
+        };
+    }
+}
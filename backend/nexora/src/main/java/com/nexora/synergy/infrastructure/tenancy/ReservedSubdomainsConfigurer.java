@@ -0,0 +1,27 @@
+package com.nexora.synergy.infrastructure.tenancy;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.nexora.synergy.platform.domain.model.ReservedSubdomains;
+
+/**
+ * Loads zappschool.tenant.reserved-subdomains into ReservedSubdomains at
+ * startup. Unset or empty keeps the built-in defaults.
+ */
+@Component
+public class ReservedSubdomainsConfigurer {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservedSubdomainsConfigurer.class);
+
+    public ReservedSubdomainsConfigurer(
+            @Value("${zappschool.tenant.reserved-subdomains:}") List<String> reservedSubdomains
+    ) {
+        ReservedSubdomains.configure(reservedSubdomains);
+        log.info("ReservedSubdomains.configured: count={}", ReservedSubdomains.current().size());
+    }
+}
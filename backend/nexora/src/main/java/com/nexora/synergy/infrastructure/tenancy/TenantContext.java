@@ -0,0 +1,38 @@
+package com.nexora.synergy.infrastructure.tenancy;
+
+import java.util.Optional;
+
+import com.nexora.synergy.platform.domain.model.TenantRoute;
+
+/**
+ * TenantContext — thread-local "which tenant is this request for".
+ *
+ * Set by TenantResolutionFilter from the Host header, read by
+ * TenantIdentifierResolver to pick the schema Hibernate connects to. Empty
+ * for platform-level requests (registration, admin), which run against the
+ * default schema.
+ */
+public final class TenantContext {
+
+    private static final ThreadLocal<TenantRoute> CURRENT = new ThreadLocal<>();
+
+    private TenantContext() {
+    }
+
+    public static void set(TenantRoute route) {
+        CURRENT.set(route);
+    }
+
+    public static Optional<TenantRoute> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    public static String currentSchema() {
+        TenantRoute route = CURRENT.get();
+        return route != null ? route.schemaName() : null;
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,27 @@
+package com.nexora.synergy.infrastructure.tenancy;
+
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+
+/**
+ * Tells Hibernate which schema the current session belongs to: the tenant
+ * resolved for this request, or the default schema for platform requests.
+ */
+public class TenantIdentifierResolver implements CurrentTenantIdentifierResolver<String> {
+
+    private final String defaultSchema;
+
+    public TenantIdentifierResolver(String defaultSchema) {
+        this.defaultSchema = defaultSchema;
+    }
+
+    @Override
+    public String resolveCurrentTenantIdentifier() {
+        String schema = TenantContext.currentSchema();
+        return schema != null ? schema : defaultSchema;
+    }
+
+    @Override
+    public boolean validateExistingCurrentSessions() {
+        return true;
+    }
+}
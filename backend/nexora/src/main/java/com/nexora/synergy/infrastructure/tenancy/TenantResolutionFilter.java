@@ -0,0 +1,92 @@
+package com.nexora.synergy.infrastructure.tenancy;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.nexora.synergy.platform.application.tenant.service.TenantQueryService;
+import com.nexora.synergy.platform.domain.model.TenantRoute;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * TenantResolutionFilter — maps the request's Host to a tenant.
+ *
+ * "harvard.zappschool.com" → subdomain "harvard" → TenantRoute (cached, see
+ * TenantRoutingCache) → TenantContext for the rest of the request.
+ *
+ * - Apex / foreign hosts: no tenant, request continues on the platform schema
+ * - Unknown subdomain: 404
+ * - Known but not ACTIVE (provisioning, suspended, ...): 403
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class TenantResolutionFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantResolutionFilter.class);
+
+    private final TenantQueryService tenantQueryService;
+    private final String domainSuffix;
+
+    public TenantResolutionFilter(TenantQueryService tenantQueryService,
+            @Value("${zappschool.tenant.domain-suffix:.zappschool.com}") String domainSuffix) {
+        this.tenantQueryService = tenantQueryService;
+        this.domainSuffix = domainSuffix.toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain chain) throws ServletException, IOException {
+        String subdomain = extractSubdomain(request.getServerName());
+        if (subdomain == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        Optional<TenantRoute> route = tenantQueryService.findRoute(subdomain);
+        if (route.isEmpty()) {
+            response.sendError(HttpStatus.NOT_FOUND.value(), "Unknown tenant: " + subdomain);
+            return;
+        }
+        if (!route.get().canAcceptRequests()) {
+            log.debug("TenantResolution.rejected: subdomain={} status={}", subdomain, route.get().status());
+            response.sendError(HttpStatus.FORBIDDEN.value(), "Tenant is not active: " + subdomain);
+            return;
+        }
+
+        TenantContext.set(route.get());
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    /**
+     * "harvard.zappschool.com" → "harvard"; apex, nested or foreign hosts →
+     * null.
+     */
+    String extractSubdomain(String host) {
+        if (host == null) {
+            return null;
+        }
+        String h = host.toLowerCase(Locale.ROOT);
+        if (!h.endsWith(domainSuffix) || h.length() == domainSuffix.length()) {
+            return null;
+        }
+        String sub = h.substring(0, h.length() - domainSuffix.length());
+        return sub.indexOf('.') < 0 ? sub : null;
+    }
+}
@@ -0,0 +1,115 @@
+package com.nexora.synergy.infrastructure.tenancy;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
+
+/**
+ * TenantSchemaConnectionProvider — schema-per-tenant on one Hikari pool.
+ *
+ * Every checkout points the borrowed connection's search_path at the current
+ * tenant's schema; every release points it back at the default schema
+ * (zappschool.tenant.default-schema) before the connection returns to the
+ * pool. A SET search_path outlives the checkout, so without the reset the
+ * next borrower — a JdbcTemplate, Flyway, another tenant — would resolve
+ * unqualified names in this tenant's schema.
+ *
+ * The schema last set on each physical connection is remembered, so the SET
+ * is skipped when the connection already points there: platform requests
+ * (default schema) cost no extra statement, and a release after a platform
+ * request does not reset anything.
+ *
+ * Uses a plain SET rather than Connection.setSchema(): Hikari tracks
+ * setSchema() and resets it on every return to the pool, which would defeat
+ * the skip. The SET only runs while the connection is in auto-commit, so it
+ * cannot be undone by a later rollback and the remembered value stays true.
+ */
+public class TenantSchemaConnectionProvider implements MultiTenantConnectionProvider<String> {
+
+    private static final Pattern SCHEMA_NAME = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+
+    private final DataSource dataSource;
+    private final String defaultSchema;
+    private final Map<Connection, String> searchPathByConnection =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    public TenantSchemaConnectionProvider(DataSource dataSource, String defaultSchema) {
+        this.dataSource = dataSource;
+        this.defaultSchema = defaultSchema;
+    }
+
+    @Override
+    public Connection getAnyConnection() throws SQLException {
+        return dataSource.getConnection();
+    }
+
+    @Override
+    public void releaseAnyConnection(Connection connection) throws SQLException {
+        connection.close();
+    }
+
+    @Override
+    public Connection getConnection(String schema) throws SQLException {
+        Connection connection = getAnyConnection();
+        try {
+            switchSchema(connection, schema);
+        } catch (SQLException | RuntimeException e) {
+            connection.close();
+            throw e;
+        }
+        return connection;
+    }
+
+    @Override
+    public void releaseConnection(String schema, Connection connection) throws SQLException {
+        try {
+            switchSchema(connection, defaultSchema);
+        } finally {
+            connection.close();
+        }
+    }
+
+    @Override
+    public boolean supportsAggressiveRelease() {
+        return false;
+    }
+
+    @Override
+    public boolean isUnwrappableAs(Class<?> unwrapType) {
+        return unwrapType.isInstance(this);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> unwrapType) {
+        if (isUnwrappableAs(unwrapType)) {
+            return unwrapType.cast(this);
+        }
+        throw new IllegalArgumentException("Cannot unwrap to " + unwrapType);
+    }
+
+    private void switchSchema(Connection connection, String schema) throws SQLException {
+        if (!SCHEMA_NAME.matcher(schema).matches()) {
+            throw new IllegalArgumentException("Invalid tenant schema name: " + schema);
+        }
+        Connection physical = connection.unwrap(Connection.class);
+        if (schema.equals(searchPathByConnection.get(physical))) {
+            return; // already there — no round trip
+        }
+        try (Statement st = connection.createStatement()) {
+            st.execute("SET search_path TO \"" + schema + "\"");
+        }
+        if (connection.getAutoCommit()) {
+            searchPathByConnection.put(physical, schema);
+        } else {
+            searchPathByConnection.remove(physical);
+        }
+    }
+}
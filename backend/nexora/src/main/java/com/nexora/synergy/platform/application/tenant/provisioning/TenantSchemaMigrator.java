@@ -0,0 +1,15 @@
+package com.nexora.synergy.platform.application.tenant.provisioning;
+
+/**
+ * PORT: TenantSchemaMigrator
+ *
+ * Brings an existing tenant schema up to the latest db/migration/tenant
+ * version. Used by the bulk "migrate all tenant schemas" mode.
+ */
+public interface TenantSchemaMigrator {
+
+    /**
+     * @return number of migrations applied (0 if already current)
+     */
+    int migrate(String schemaName);
+}
@@ -0,0 +1,13 @@
+package com.nexora.synergy.platform.application.tenant.provisioning;
+
+/**
+ * PORT: TenantSchemaProvisioner
+ *
+ * Creates a brand-new tenant schema, fully migrated to the current version of
+ * db/migration/tenant. Must be idempotent — the provisioning worker may retry
+ * the same schema after a crash or a redelivered event.
+ */
+public interface TenantSchemaProvisioner {
+
+    void provision(String schemaName);
+}
@@ -0,0 +1,94 @@
+package com.nexora.synergy.platform.application.tenant.service;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.nexora.synergy.platform.application.tenant.command.RegisterTenantResult;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * IdempotentResultCache — idempotency key → already-deserialized result of a
+ * COMPLETE registration.
+ *
+ * AWS Equivalent: API Gateway idempotency response cache.
+ *
+ * Only COMPLETE results are cached, and only once their transaction has
+ * committed: a hit is a final answer. Misses (unknown, IN_PROGRESS, expired)
+ * always go to platform.idempotency_records, which stays the authority.
+ * Each entry expires exactly at its record's expiresAt; max-size bounds
+ * memory during retry storms.
+ *
+ * Hit/miss/eviction rates: cache.gets{cache="idempotency.results",result=hit|miss}.
+ */
+@Component
+public class IdempotentResultCache {
+
+    private final Cache<String, Entry> results;
+
+    public IdempotentResultCache(
+            MeterRegistry meterRegistry,
+            @Value("${zappschool.idempotency.result-cache.max-size:10000}") long maxSize
+    ) {
+        this.results = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilExpiresAt())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, results, "idempotency.results");
+    }
+
+    public Optional<RegisterTenantResult> get(String idempotencyKey) {
+        Entry entry = results.getIfPresent(idempotencyKey);
+        return entry != null ? Optional.of(entry.result()) : Optional.empty();
+    }
+
+    /**
+     * Caches a COMPLETE result — after commit when called inside a
+     * transaction, so a rollback never leaves a phantom replay behind.
+     */
+    public void putCompleted(String idempotencyKey, RegisterTenantResult result, Instant expiresAt) {
+        Entry entry = new Entry(result, expiresAt);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    results.put(idempotencyKey, entry);
+                }
+            });
+        } else {
+            results.put(idempotencyKey, entry);
+        }
+    }
+
+    private record Entry(RegisterTenantResult result, Instant expiresAt) {
+
+    }
+
+    private static final class UntilExpiresAt implements Expiry<String, Entry> {
+
+        @Override
+        public long expireAfterCreate(String key, Entry entry, long currentTime) {
+            return Math.max(0, entry.expiresAt().toEpochMilli() - System.currentTimeMillis()) * 1_000_000;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
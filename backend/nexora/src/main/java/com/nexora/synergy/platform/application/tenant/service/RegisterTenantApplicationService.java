@@ -1,12 +1,15 @@
 package com.nexora.synergy.platform.application.tenant.service;
 
+import java.time.Instant;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import io.micrometer.core.instrument.MeterRegistry;
 
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nexora.synergy.infrastructure.outbox.IdempotencyRepository;
@@ -19,11 +22,12 @@ import org.springframework.beans.factory.annotation.Value;
 import com.nexora.synergy.exception.IdempotencyConflictException;
 import com.nexora.synergy.exception.TenantDomainAlreadyExistsException;
 import com.nexora.synergy.infrastructure.correlation.CorrelationContext;
-import com.nexora.synergy.infrastructure.outbox.IdempotencyStore;
+import com.nexora.synergy.infrastructure.outbox.IdempotencyClaim;
 import com.nexora.synergy.platform.application.tenant.command.RegisterTenantCommand;
 import com.nexora.synergy.platform.application.tenant.command.RegisterTenantResult;
 import com.nexora.synergy.platform.domain.model.Tenant;
 import com.nexora.synergy.platform.domain.model.TenantDomain;
+import com.nexora.synergy.platform.domain.shared.id.TimeOrderedIds;
 
 import io.micrometer.core.annotation.Timed;
 
@@ -36,14 +40,15 @@ import io.micrometer.core.annotation.Timed;
  * metrics) 4. Correlation ID — propagated from HTTP request through all events
  * 5. Structured operation log — every field explicitly named in log
  *
- * Transaction boundary: Everything in execute() runs in ONE transaction: -
- * Idempotency record creation - Domain uniqueness check - Tenant aggregate
- * creation - tenantRepository.save() - outboxRepository.save() (events) If ANY
- * step fails, everything rolls back. This is the "exactly-once write"
+ * Transaction boundary: a replay of a COMPLETE result is answered from
+ * IdempotentResultCache before any transaction (or connection) is opened.
+ * Everything else in execute() runs in ONE transaction: - Idempotency claim
+ * (single INSERT ... ON CONFLICT) - Domain uniqueness check - Tenant aggregate
+ * creation - tenantRepository.save() - outboxEventPublisher.publishAll()
+ * (events, one batched INSERT) If ANY step fails, everything rolls back. This is the "exactly-once write"
  * guarantee.
  */
 @Service
-@Transactional
 public class RegisterTenantApplicationService {
 
     private static final Logger log = LoggerFactory.getLogger(RegisterTenantApplicationService.class);
@@ -54,6 +59,8 @@ public class RegisterTenantApplicationService {
     private final IdempotencyRepository idempotencyRepository;
     private final MeterRegistry meterRegistry;
     private final ObjectMapper objectMapper;
+    private final IdempotentResultCache resultCache;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${zappschool.tenant.domain-suffix:.zappschool.com}")
     private String domainSuffix;
@@ -67,7 +74,9 @@ public class RegisterTenantApplicationService {
             OutboxEventPublisher outboxEventPublisher,
             IdempotencyRepository idempotencyRepository,
             MeterRegistry meterRegistry,
-            ObjectMapper objectMapper
+            ObjectMapper objectMapper,
+            IdempotentResultCache resultCache,
+            PlatformTransactionManager transactionManager
     ) {
         this.tenantFactory = tenantFactory;
         this.tenantRepository = tenantRepository;
@@ -75,6 +84,8 @@ public class RegisterTenantApplicationService {
         this.idempotencyRepository = idempotencyRepository;
         this.meterRegistry = meterRegistry;
         this.objectMapper = objectMapper;
+        this.resultCache = resultCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Timed(value = "tenant.registration", description = "Time taken to register a tenant")
@@ -85,29 +96,39 @@ public class RegisterTenantApplicationService {
         log.info("RegisterTenant.start: subdomain={} institution={} correlationId={}",
                 command.subdomain(), command.institutionName(), correlationId);
 
-        // ── Step 1: Idempotency check (like API Gateway) ──
+        // ── Step 0: Completed replay served from memory, no database round trip ──
         if (idempotencyKey != null && !idempotencyKey.isBlank()) {
-            var existing = idempotencyRepository.findByIdempotencyKey(idempotencyKey);
-            if (existing.isPresent()) {
-                IdempotencyStore rec = existing.get();
-                if (rec.isExpired()) {
-                    idempotencyRepository.delete(rec); // Clean up, proceed as new
-                } else if (rec.isInProgress()) {
-                    throw new IdempotencyConflictException(idempotencyKey);
-                } else if (rec.isComplete()) {
-                    log.info("RegisterTenant.idempotent: returning cached result for key={}", idempotencyKey);
-                    meterRegistry.counter("tenant.registration.idempotent").increment();
-                    return deserializeResult(rec.getResponsePayload());
-                }
+            var cached = resultCache.get(idempotencyKey);
+            if (cached.isPresent()) {
+                log.info("RegisterTenant.idempotent: returning cached result for key={} source=memory", idempotencyKey);
+                meterRegistry.counter("tenant.registration.idempotent").increment();
+                return cached.get();
             }
         }
 
-        // ── Step 2: Create idempotency record (mark IN_PROGRESS) ──
-        IdempotencyStore idempotencyRecord = null;
+        return transactionTemplate.execute(tx -> register(command, idempotencyKey, correlationId));
+    }
+
+    private RegisterTenantResult register(RegisterTenantCommand command, String idempotencyKey, String correlationId) {
+        // ── Step 1+2: Idempotency claim (like API Gateway) ──
+        // One upsert: inserts IN_PROGRESS, takes over an expired key, or
+        // returns the state left by an earlier request with the same key.
+        Instant idempotencyExpiresAt = null;
         if (idempotencyKey != null && !idempotencyKey.isBlank()) {
-            idempotencyRecord = IdempotencyStore.createInProgress(
-                    idempotencyKey, "REGISTER_TENANT", idempotencyTtlMinutes);
-            idempotencyRepository.save(idempotencyRecord);
+            idempotencyExpiresAt = Instant.now().plusSeconds(idempotencyTtlMinutes * 60);
+            IdempotencyClaim claim = idempotencyRepository
+                    .claim(TimeOrderedIds.next(), idempotencyKey, "REGISTER_TENANT", idempotencyExpiresAt)
+                    .orElseThrow(() -> new IdempotencyConflictException(idempotencyKey));
+            if (!claim.isClaimed()) {
+                if (!claim.isComplete()) {
+                    throw new IdempotencyConflictException(idempotencyKey);
+                }
+                log.info("RegisterTenant.idempotent: returning cached result for key={}", idempotencyKey);
+                meterRegistry.counter("tenant.registration.idempotent").increment();
+                RegisterTenantResult replay = deserializeResult(claim.getResponsePayload());
+                resultCache.putCompleted(idempotencyKey, replay, Instant.ofEpochMilli(claim.getExpiresAtEpochMs()));
+                return replay;
+            }
         }
 
         try {
@@ -135,8 +156,7 @@ public class RegisterTenantApplicationService {
             // ── Step 6: Persist domain events to Outbox (SAME transaction) ──
             // If save() succeeded but app crashes here, Outbox row is also rolled back.
             // No orphaned events.
-            saved.getDomainEvents()
-                    .forEach(event -> outboxEventPublisher.publish(event, "Tenant"));
+            outboxEventPublisher.publishAll(saved.getDomainEvents(), "Tenant");
             saved.clearEvents();
 
             log.info("RegisterTenant.complete: tenantId={} subdomain={} correlationId={}",
@@ -153,9 +173,9 @@ public class RegisterTenantApplicationService {
             );
 
             // ── Step 7: Mark idempotency record COMPLETE ──
-            if (idempotencyRecord != null) {
-                idempotencyRecord.complete(serializeResult(result));
-                idempotencyRepository.save(idempotencyRecord);
+            if (idempotencyExpiresAt != null) {
+                idempotencyRepository.complete(idempotencyKey, serializeResult(result));
+                resultCache.putCompleted(idempotencyKey, result, idempotencyExpiresAt);
             }
 
             return result;
@@ -0,0 +1,193 @@
+package com.nexora.synergy.platform.application.tenant.service;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nexora.synergy.exception.TenantNotFoundException;
+import com.nexora.synergy.infrastructure.correlation.ContextSnapshot;
+import com.nexora.synergy.infrastructure.outbox.OutboxEventPublisher;
+import com.nexora.synergy.platform.application.tenant.provisioning.TenantSchemaProvisioner;
+import com.nexora.synergy.platform.domain.model.Tenant;
+import com.nexora.synergy.platform.domain.model.TenantId;
+import com.nexora.synergy.platform.domain.model.TenantStatus;
+import com.nexora.synergy.platform.domain.repository.TenantRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * APPLICATION SERVICE: TenantProvisioningService
+ *
+ * Drives the provisioning half of the Tenant lifecycle, one outbox event at a
+ * time:
+ *
+ * tenant.registered.v1 → start(): PENDING → PROVISIONING, raises
+ * TenantProvisioningStartedEvent (with the schema name)
+ *
+ * tenant.provisioning.started.v1 → createSchema(): runs the
+ * TenantSchemaProvisioner, then PROVISIONING → ACTIVE, or → FAILED
+ *
+ * Each state change is its own short transaction (aggregate + outbox
+ * together); the schema work runs between them, outside any transaction, on
+ * a bounded executor with a timeout. Every step is safe to redeliver.
+ *
+ * Timeout: interrupting the worker does not stop a running migration, so the
+ * tenant is marked FAILED only once the work has actually stopped. The
+ * provisioner's statement_timeout ends the statement in flight within
+ * timeout-seconds. Work still running after that wait leaves the tenant
+ * PROVISIONING and fails the delivery, so the event is redelivered. A retry
+ * of a half-built schema is safe: Flyway resumes it.
+ *
+ * With spring.threads.virtual.enabled the workers are virtual threads; the
+ * pool stays fixed at parallelism because each run holds a JDBC connection.
+ */
+@Service
+public class TenantProvisioningService {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantProvisioningService.class);
+
+    private final TenantRepository tenantRepository;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final TenantSchemaProvisioner schemaProvisioner;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService schemaWorkers;
+    private final long timeoutSeconds;
+
+    public TenantProvisioningService(
+            TenantRepository tenantRepository,
+            OutboxEventPublisher outboxEventPublisher,
+            TenantSchemaProvisioner schemaProvisioner,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${zappschool.provisioning.parallelism:4}") int parallelism,
+            @Value("${zappschool.provisioning.timeout-seconds:120}") long timeoutSeconds,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.tenantRepository = tenantRepository;
+        this.outboxEventPublisher = outboxEventPublisher;
+        this.schemaProvisioner = schemaProvisioner;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.timeoutSeconds = timeoutSeconds;
+        this.schemaWorkers = Executors.newFixedThreadPool(parallelism, virtualThreads
+                ? Thread.ofVirtual().name("tenant-provisioning-", 0).factory()
+                : Thread.ofPlatform().name("tenant-provisioning-", 0).factory());
+    }
+
+    /**
+     * PENDING → PROVISIONING. A redelivery for a tenant that already moved on
+     * is a no-op.
+     */
+    public void start(String tenantId) {
+        transactionTemplate.executeWithoutResult(tx -> {
+            Tenant tenant = load(tenantId);
+            if (tenant.getStatus() != TenantStatus.PENDING) {
+                log.info("Provisioning.start.skipped: tenantId={} status={}", tenantId, tenant.getStatus());
+                return;
+            }
+            tenant.startProvisioning();
+            saveWithEvents(tenant);
+            log.info("Provisioning.started: tenantId={} schema={} correlationId={}",
+                    tenantId, tenant.getSchemaName(), tenant.getCorrelationId());
+        });
+    }
+
+    /**
+     * Builds the tenant schema, then PROVISIONING → ACTIVE (or FAILED).
+     */
+    public void createSchema(String tenantId) {
+        String schemaName = transactionTemplate.execute(tx -> {
+            Tenant tenant = load(tenantId);
+            return tenant.getStatus() == TenantStatus.PROVISIONING ? tenant.getSchemaName() : null;
+        });
+        if (schemaName == null) {
+            log.info("Provisioning.schema.skipped: tenantId={} (not PROVISIONING)", tenantId);
+            return;
+        }
+
+        try {
+            runBounded(schemaName);
+        } catch (SchemaWorkStillRunningException e) {
+            log.error("Provisioning.stillRunning: tenantId={} schema={}", tenantId, schemaName);
+            throw e;
+        } catch (Exception e) {
+            String reason = e instanceof ExecutionException ee && ee.getCause() != null
+                    ? ee.getCause().getMessage() : e.toString();
+            log.error("Provisioning.failed: tenantId={} schema={} reason={}", tenantId, schemaName, reason);
+            transactionTemplate.executeWithoutResult(tx -> {
+                Tenant tenant = load(tenantId);
+                tenant.markProvisioningFailed(reason);
+                saveWithEvents(tenant);
+            });
+            meterRegistry.counter("tenant.provisioning.failed").increment();
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(tx -> {
+            Tenant tenant = load(tenantId);
+            tenant.activate();
+            saveWithEvents(tenant);
+        });
+        meterRegistry.counter("tenant.provisioning.activated").increment();
+        log.info("Provisioning.activated: tenantId={} schema={}", tenantId, schemaName);
+    }
+
+    private void runBounded(String schemaName) throws Exception {
+        CountDownLatch stopped = new CountDownLatch(1);
+        Runnable provision = ContextSnapshot.capture().wrap(() -> schemaProvisioner.provision(schemaName));
+        Future<?> work = schemaWorkers.submit(() -> {
+            try {
+                provision.run();
+            } finally {
+                stopped.countDown();
+            }
+        });
+        try {
+            work.get(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            work.cancel(true);
+            if (!stopped.await(timeoutSeconds, TimeUnit.SECONDS)) {
+                throw new SchemaWorkStillRunningException(schemaName, timeoutSeconds);
+            }
+            throw e;
+        }
+    }
+
+    private Tenant load(String tenantId) {
+        return tenantRepository.findById(TenantId.of(tenantId))
+                .orElseThrow(() -> new TenantNotFoundException("Tenant not found: " + tenantId));
+    }
+
+    private void saveWithEvents(Tenant tenant) {
+        Tenant saved = tenantRepository.save(tenant);
+        outboxEventPublisher.publishAll(saved.getDomainEvents(), "Tenant");
+        saved.clearEvents();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        schemaWorkers.shutdown();
+    }
+
+    /** Timed out and not stopped after cancel: the tenant stays PROVISIONING. */
+    static class SchemaWorkStillRunningException extends IllegalStateException {
+
+        SchemaWorkStillRunningException(String schemaName, long timeoutSeconds) {
+            super("Schema " + schemaName + " still being built " + timeoutSeconds
+                    + "s after its timeout; not marking FAILED while it runs");
+        }
+    }
+}
@@ -1,13 +1,16 @@
 package com.nexora.synergy.platform.application.tenant.service;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
 import com.nexora.synergy.exception.TenantNotFoundException;
 import com.nexora.synergy.platform.domain.model.Tenant;
 import com.nexora.synergy.platform.domain.model.TenantId;
+import com.nexora.synergy.platform.domain.model.TenantRoute;
 import com.nexora.synergy.platform.domain.model.TenantStatus;
 import com.nexora.synergy.platform.domain.repository.TenantRepository;
 
@@ -28,9 +31,11 @@ import com.nexora.synergy.platform.domain.repository.TenantRepository;
 public class TenantQueryService {
 
     private final TenantRepository tenantRepository;
+    private final TenantRoutingCache routingCache;
 
-    public TenantQueryService(TenantRepository tenantRepository) {
+    public TenantQueryService(TenantRepository tenantRepository, TenantRoutingCache routingCache) {
         this.tenantRepository = tenantRepository;
+        this.routingCache = routingCache;
     }
 
     public Tenant findById(String tenantId) {
@@ -56,11 +61,22 @@ public class TenantQueryService {
     /**
      * Routing check: Is this subdomain mapped to an active tenant? Used by the
      * TenantResolutionFilter for every incoming request.
+     *
+     * Served from the in-process routing cache; SUPPORTS so a cache hit never
+     * opens a transaction or borrows a connection.
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public boolean isActiveTenant(String subdomain) {
-        return tenantRepository
-                .findByDomainValue(subdomain)
-                .map(Tenant::canAcceptRequests)
+        return routingCache.lookup(subdomain)
+                .map(TenantRoute::canAcceptRequests)
                 .orElse(false);
     }
+
+    /**
+     * Routing lookup: subdomain → (tenantId, status, schemaName), cached.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<TenantRoute> findRoute(String subdomain) {
+        return routingCache.lookup(subdomain);
+    }
 }
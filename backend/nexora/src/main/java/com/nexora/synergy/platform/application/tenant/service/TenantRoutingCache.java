@@ -0,0 +1,67 @@
+package com.nexora.synergy.platform.application.tenant.service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.nexora.synergy.platform.domain.model.TenantRoute;
+import com.nexora.synergy.platform.domain.repository.TenantRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * TenantRoutingCache — in-process routing table: subdomain → TenantRoute.
+ *
+ * AWS Equivalent: API Gateway stage cache in front of a Lambda authorizer.
+ *
+ * Bounded (LRU-ish, max-size) and TTL-based. Unknown subdomains are cached as
+ * empty too, so junk Host headers cannot hammer Postgres. Entries are evicted
+ * on tenant.activated.v1 / tenant.suspended.v1 (delivered through the outbox);
+ * the TTL bounds staleness if an invalidation is ever lost.
+ *
+ * Hit/miss/eviction rates: cache.gets{cache="tenant.routing",result=hit|miss}.
+ */
+@Component
+public class TenantRoutingCache {
+
+    private final TenantRepository tenantRepository;
+    private final Cache<String, Optional<TenantRoute>> routes;
+
+    @Autowired
+    public TenantRoutingCache(
+            TenantRepository tenantRepository,
+            MeterRegistry meterRegistry,
+            @Value("${zappschool.tenant.routing-cache.max-size:10000}") long maxSize,
+            @Value("${zappschool.tenant.routing-cache.ttl-seconds:60}") long ttlSeconds
+    ) {
+        this(tenantRepository, meterRegistry, maxSize, ttlSeconds, Ticker.systemTicker());
+    }
+
+    /** With the clock TTL expiry reads — a fake one in tests. */
+    TenantRoutingCache(TenantRepository tenantRepository, MeterRegistry meterRegistry, long maxSize,
+            long ttlSeconds, Ticker ticker) {
+        this.tenantRepository = tenantRepository;
+        this.routes = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, routes, "tenant.routing");
+    }
+
+    public Optional<TenantRoute> lookup(String subdomain) {
+        return routes.get(subdomain, tenantRepository::findRouteByDomainValue);
+    }
+
+    public void evict(String subdomain) {
+        routes.invalidate(subdomain);
+    }
+}
@@ -0,0 +1,108 @@
+package com.nexora.synergy.platform.application.tenant.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.nexora.synergy.infrastructure.correlation.ContextSnapshot;
+import com.nexora.synergy.platform.application.tenant.provisioning.TenantSchemaMigrator;
+import com.nexora.synergy.platform.domain.model.Tenant;
+import com.nexora.synergy.platform.domain.model.TenantStatus;
+import com.nexora.synergy.platform.domain.repository.TenantRepository;
+
+/**
+ * APPLICATION SERVICE: TenantSchemaMigrationService
+ *
+ * Bulk mode: upgrades every provisioned tenant schema to the latest
+ * db/migration/tenant version, migrate-all-parallelism schemas at a time.
+ * Schemas are independent — one failing schema is reported and the rest keep
+ * going.
+ *
+ * Together with provisioning.parallelism the parallelism must stay below the
+ * Hikari pool size (ConnectionPoolBudget): each Flyway run holds a
+ * connection for its whole duration — which is also why the pool stays fixed
+ * when spring.threads.virtual.enabled switches it to virtual threads.
+ */
+@Service
+public class TenantSchemaMigrationService {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantSchemaMigrationService.class);
+
+    private static final List<TenantStatus> MIGRATABLE = List.of(TenantStatus.ACTIVE, TenantStatus.SUSPENDED);
+
+    private final TenantRepository tenantRepository;
+    private final TenantSchemaMigrator schemaMigrator;
+    private final int parallelism;
+    private final boolean virtualThreads;
+
+    public TenantSchemaMigrationService(
+            TenantRepository tenantRepository,
+            TenantSchemaMigrator schemaMigrator,
+            @Value("${zappschool.provisioning.migrate-all-parallelism:4}") int parallelism,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        this.tenantRepository = tenantRepository;
+        this.schemaMigrator = schemaMigrator;
+        this.parallelism = parallelism;
+        this.virtualThreads = virtualThreads;
+    }
+
+    public MigrationReport migrateAll() {
+        List<String> schemas = new ArrayList<>();
+        for (TenantStatus status : MIGRATABLE) {
+            tenantRepository.findByStatus(status).stream()
+                    .map(Tenant::getSchemaName)
+                    .filter(s -> s != null)
+                    .forEach(schemas::add);
+        }
+
+        long started = System.nanoTime();
+        AtomicInteger applied = new AtomicInteger();
+        Map<String, String> failures = new ConcurrentHashMap<>();
+        ContextSnapshot context = ContextSnapshot.capture();
+        try (ExecutorService pool = Executors.newFixedThreadPool(parallelism, virtualThreads
+                ? Thread.ofVirtual().name("tenant-migrate-", 0).factory()
+                : Thread.ofPlatform().name("tenant-migrate-", 0).factory())) {
+            List<Future<?>> runs = new ArrayList<>(schemas.size());
+            for (String schema : schemas) {
+                runs.add(pool.submit(context.wrap(() -> {
+                    try {
+                        applied.addAndGet(schemaMigrator.migrate(schema));
+                    } catch (RuntimeException e) {
+                        failures.put(schema, String.valueOf(e.getMessage()));
+                        log.error("TenantSchema.migrateAll.failed: schema={} error={}", schema, e.getMessage());
+                    }
+                })));
+            }
+            for (Future<?> run : runs) {
+                run.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Bulk tenant schema migration interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Bulk tenant schema migration aborted", e.getCause());
+        }
+
+        MigrationReport report = new MigrationReport(schemas.size(), applied.get(), Map.copyOf(failures),
+                (System.nanoTime() - started) / 1_000_000);
+        log.info("TenantSchema.migrateAll: schemas={} migrationsApplied={} failed={} durationMs={}",
+                report.schemas(), report.migrationsApplied(), report.failures().size(), report.durationMs());
+        return report;
+    }
+
+    public record MigrationReport(int schemas, int migrationsApplied, Map<String, String> failures, long durationMs) {
+
+    }
+}
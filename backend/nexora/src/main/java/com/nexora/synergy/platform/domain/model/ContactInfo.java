@@ -1,19 +1,20 @@
 package com.nexora.synergy.platform.domain.model;
 
 import java.util.Objects;
-import java.util.regex.Pattern;
 
 /**
  * Value Object: ContactInfo
  *
  * Holds the tenant admin's contact details. Self-validating — invalid
  * emails/phones never enter the domain.
+ *
+ * Email format: local@domain.tld — local part of letters, digits and
+ * ._%+-, domain of letters, digits, dots and hyphens, and a final label of
+ * at least two letters. Checked in one left-to-right pass (isValidEmail)
+ * rather than a backtracking regex.
  */
 public final class ContactInfo {
 
-    private static final Pattern EMAIL_PATTERN
-            = Pattern.compile("^[a-zA-Z0-9._%+\\-]+@[a-zA-Z0-9.\\-]+\\.[a-zA-Z]{2,}$");
-
     private final String adminName;
     private final String adminEmail;
     private final String adminPhone;
@@ -42,12 +43,48 @@ public final class ContactInfo {
         if (email == null || email.isBlank()) {
             throw new IllegalArgumentException("Admin email must not be blank");
         }
-        if (!EMAIL_PATTERN.matcher(email).matches()) {
+        if (!isValidEmail(email)) {
             throw new IllegalArgumentException("Invalid email format: " + email);
         }
         return email.toLowerCase();
     }
 
+    /**
+     * Same language as ^[a-zA-Z0-9._%+\-]+@[a-zA-Z0-9.\-]+\.[a-zA-Z]{2,}$:
+     * '@' is in neither character class, so there is exactly one; after it,
+     * the TLD can only follow the last dot, which needs at least one domain
+     * character before it.
+     */
+    private static boolean isValidEmail(String email) {
+        int n = email.length();
+        int at = -1;
+        int lastDot = -1;
+        boolean tldLetters = false;
+        for (int i = 0; i < n; i++) {
+            char c = email.charAt(i);
+            boolean letter = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+            boolean alnum = letter || (c >= '0' && c <= '9');
+            if (at < 0) {
+                if (c == '@') {
+                    if (i == 0) {
+                        return false;
+                    }
+                    at = i;
+                } else if (!alnum && c != '.' && c != '_' && c != '%' && c != '+' && c != '-') {
+                    return false;
+                }
+            } else if (c == '.') {
+                lastDot = i;
+                tldLetters = true;
+            } else if (alnum || c == '-') {
+                tldLetters &= letter;
+            } else {
+                return false;
+            }
+        }
+        return at > 0 && lastDot > at + 1 && n - lastDot > 2 && tldLetters;
+    }
+
     public String getAdminName() {
         return adminName;
     }
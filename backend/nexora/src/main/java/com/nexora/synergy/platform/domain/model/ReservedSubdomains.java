@@ -0,0 +1,45 @@
+package com.nexora.synergy.platform.domain.model;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Subdomains no tenant may take — checked by TenantDomain on construction.
+ *
+ * Value objects are built without Spring, so the list is held here rather
+ * than injected: it starts with the built-in defaults and is replaced once at
+ * startup from zappschool.tenant.reserved-subdomains
+ * (ReservedSubdomainsConfigurer).
+ */
+public final class ReservedSubdomains {
+
+    public static final Set<String> DEFAULTS = Set.of(
+            "www", "api", "admin", "platform", "mail", "smtp", "ftp", "support", "help", "billing", "app",
+            "static", "cdn");
+
+    private static volatile Set<String> reserved = DEFAULTS;
+
+    private ReservedSubdomains() {
+    }
+
+    /** @param subdomain already lowercased */
+    public static boolean contains(String subdomain) {
+        return reserved.contains(subdomain);
+    }
+
+    /** Replaces the reserved list; an empty one restores the defaults. */
+    public static void configure(Collection<String> subdomains) {
+        reserved = subdomains.isEmpty()
+                ? DEFAULTS
+                : subdomains.stream()
+                        .map(s -> s.trim().toLowerCase(Locale.ROOT))
+                        .filter(s -> !s.isEmpty())
+                        .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public static Set<String> current() {
+        return reserved;
+    }
+}
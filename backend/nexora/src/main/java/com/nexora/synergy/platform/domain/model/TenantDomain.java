@@ -1,7 +1,6 @@
 package com.nexora.synergy.platform.domain.model;
 
 import java.util.Objects;
-import java.util.regex.Pattern;
 
 /**
  * Value Object: TenantDomain
@@ -11,26 +10,27 @@ import java.util.regex.Pattern;
  * have an invalid TenantDomain in memory.
  *
  * Business rules enforced here: - Lowercase alphanumeric + hyphens only - 3–63
- * characters - Cannot start or end with a hyphen - Must be globally unique
- * (enforced at repository level)
+ * characters - Cannot start or end with a hyphen - Not reserved
+ * (ReservedSubdomains) - Must be globally unique (enforced at repository
+ * level)
+ *
+ * Validation is a hand-written single pass — no regex, and no lowercase copy
+ * when the input is already lowercase (every routing lookup).
  */
 public final class TenantDomain {
 
-    private static final Pattern VALID_SUBDOMAIN
-            = Pattern.compile("^[a-z0-9]([a-z0-9\\-]{1,61}[a-z0-9])?$");
-
     private final String value;
 
     private TenantDomain(String value) {
-        validate(value);
-        this.value = value.toLowerCase();
+        this.value = validate(value);
     }
 
     public static TenantDomain of(String subdomain) {
         return new TenantDomain(subdomain);
     }
 
-    private void validate(String subdomain) {
+    /** Returns the lowercased subdomain. */
+    private static String validate(String subdomain) {
         if (subdomain == null || subdomain.isBlank()) {
             throw new IllegalArgumentException("Tenant subdomain must not be blank");
         }
@@ -38,24 +38,43 @@ public final class TenantDomain {
             throw new IllegalArgumentException(
                     "Tenant subdomain must be 3–63 characters, got: " + subdomain.length());
         }
-        if (!VALID_SUBDOMAIN.matcher(subdomain.toLowerCase()).matches()) {
-            throw new IllegalArgumentException(
-                    "Tenant subdomain must be lowercase alphanumeric with hyphens only: " + subdomain);
+        String lower = subdomain;
+        if (!isValidLowercase(lower)) {
+            lower = subdomain.toLowerCase();
+            if (!isValidLowercase(lower)) {
+                throw new IllegalArgumentException(
+                        "Tenant subdomain must be lowercase alphanumeric with hyphens only: " + subdomain);
+            }
         }
-        // Reserved subdomains
-        if (isReserved(subdomain.toLowerCase())) {
+        if (ReservedSubdomains.contains(lower)) {
             throw new IllegalArgumentException(
                     "Subdomain is reserved and cannot be used: " + subdomain);
         }
+        return lower;
     }
 
-    private boolean isReserved(String sub) {
-        return switch (sub) {
-            case "www", "api", "admin", "platform", "mail", "smtp", "ftp", "support", "help", "billing", "app", "static", "cdn" ->
-                true;
-            default ->
-                false;
-        };
+    /**
+     * ^[a-z0-9]([a-z0-9\-]{1,61}[a-z0-9])?$ in one pass: 1 or 3–63 chars,
+     * hyphens only inside. Anything else — including uppercase — is false;
+     * validate() then retries on toLowerCase(), which keeps the default-locale
+     * and non-ASCII case mapping the regex version had (e.g. the Kelvin sign
+     * lowercases to "k").
+     */
+    private static boolean isValidLowercase(String s) {
+        int n = s.length();
+        if (n == 2 || n > 63) {
+            return false;
+        }
+        for (int i = 0; i < n; i++) {
+            char c = s.charAt(i);
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                continue;
+            }
+            if (c != '-' || i == 0 || i == n - 1) {
+                return false;
+            }
+        }
+        return n > 0;
     }
 
     public String getValue() {
@@ -3,6 +3,8 @@ package com.nexora.synergy.platform.domain.model;
 import java.util.Objects;
 import java.util.UUID;
 
+import com.nexora.synergy.platform.domain.shared.id.TimeOrderedIds;
+
 /**
  * Value Object: TenantId
  *
@@ -11,6 +13,11 @@ import java.util.UUID;
  *
  * Using a typed ID (not raw UUID/String) prevents: - Passing wrong IDs to wrong
  * methods - Confusion between TenantId, StudentId, etc.
+ *
+ * New IDs are time-ordered UUID v7, so tenants rows are appended to the end of
+ * the primary-key index. Tenants created before that keep their random v4
+ * IDs: of() accepts any UUID version, and the column type, string form and
+ * equality are the same for both.
  */
 public final class TenantId {
 
@@ -21,10 +28,10 @@ public final class TenantId {
     }
 
     /**
-     * Factory: Generate a new unique TenantId.
+     * Factory: Generate a new unique, time-ordered (UUID v7) TenantId.
      */
     public static TenantId generate() {
-        return new TenantId(UUID.randomUUID());
+        return new TenantId(TimeOrderedIds.next());
     }
 
     /**
@@ -0,0 +1,20 @@
+package com.nexora.synergy.platform.domain.model;
+
+/**
+ * Read model: TenantRoute
+ *
+ * The minimum needed to route a request to a tenant — identity, lifecycle
+ * status and the schema its data lives in. Loaded as a projection, cached
+ * per subdomain; never used to mutate the Tenant aggregate.
+ */
+public record TenantRoute(
+        TenantId tenantId,
+        String subdomain,
+        TenantStatus status,
+        String schemaName
+        ) {
+
+    public boolean canAcceptRequests() {
+        return status == TenantStatus.ACTIVE;
+    }
+}
@@ -6,6 +6,7 @@ import java.util.Optional;
 import com.nexora.synergy.platform.domain.model.Tenant;
 import com.nexora.synergy.platform.domain.model.TenantDomain;
 import com.nexora.synergy.platform.domain.model.TenantId;
+import com.nexora.synergy.platform.domain.model.TenantRoute;
 import com.nexora.synergy.platform.domain.model.TenantStatus;
 
 /**
@@ -45,6 +46,12 @@ public interface TenantRepository {
      */
     Optional<Tenant> findByDomainValue(String subdomain);
 
+    /**
+     * Routing projection by subdomain — reads only id, status and schema name,
+     * never hydrates the aggregate. Backs the per-request routing cache.
+     */
+    Optional<TenantRoute> findRouteByDomainValue(String subdomain);
+
     /**
      * Check if a domain is already taken — enforces global uniqueness.
      */
@@ -1,12 +1,13 @@
 package com.nexora.synergy.platform.domain.shared.events;
 
 import java.time.Instant;
-import java.util.UUID;
+
+import com.nexora.synergy.platform.domain.shared.id.TimeOrderedIds;
 
 /**
  * BaseDomainEvent — concrete base for all domain events.
  *
- * All events carry: eventId — UUID v4, used for outbox deduplication
+ * All events carry: eventId — UUID v7 (time-ordered), used for outbox deduplication
  * aggregateId — The ID of the aggregate that raised this event correlationId —
  * Propagated from the originating HTTP X-Correlation-ID version — Schema
  * version (start at 1, increment on breaking changes) occurredAt — Event
@@ -21,7 +22,7 @@ public abstract class BaseDomainEvent implements DomainEvent {
     private final Instant occurredAt;
 
     protected BaseDomainEvent(String aggregateId, String correlationId, int version) {
-        this.eventId = UUID.randomUUID().toString();
+        this.eventId = TimeOrderedIds.next().toString();
         this.aggregateId = aggregateId;
         this.correlationId = correlationId != null ? correlationId : "no-correlation";
         this.version = version;
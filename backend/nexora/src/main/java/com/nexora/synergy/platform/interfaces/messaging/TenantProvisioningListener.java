@@ -0,0 +1,49 @@
+package com.nexora.synergy.platform.interfaces.messaging;
+
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+
+import com.nexora.synergy.platform.application.tenant.service.TenantProvisioningService;
+
+/**
+ * TenantProvisioningListener — consumes the outbox events that drive
+ * provisioning.
+ *
+ * Durable, shared queues: each event is handled by exactly one node, and
+ * acked only after the step's transaction commits (at-least-once). Listener
+ * concurrency caps how many tenants provision in parallel on this node.
+ */
+@Component
+public class TenantProvisioningListener {
+
+    private final TenantProvisioningService provisioningService;
+
+    public TenantProvisioningListener(TenantProvisioningService provisioningService) {
+        this.provisioningService = provisioningService;
+    }
+
+    @RabbitListener(
+            bindings = @QueueBinding(
+                    value = @Queue(value = "nexora.tenant.provisioning.start", durable = "true"),
+                    exchange = @Exchange(value = "${zappschool.outbox.exchange:nexora.events}", type = ExchangeTypes.TOPIC),
+                    key = "tenant.registered.v1"),
+            concurrency = "${zappschool.provisioning.parallelism:4}")
+    public void onTenantRegistered(@Header("aggregateId") String tenantId) {
+        provisioningService.start(tenantId);
+    }
+
+    @RabbitListener(
+            bindings = @QueueBinding(
+                    value = @Queue(value = "nexora.tenant.provisioning.schema", durable = "true"),
+                    exchange = @Exchange(value = "${zappschool.outbox.exchange:nexora.events}", type = ExchangeTypes.TOPIC),
+                    key = "tenant.provisioning.started.v1"),
+            concurrency = "${zappschool.provisioning.parallelism:4}")
+    public void onProvisioningStarted(@Header("aggregateId") String tenantId) {
+        provisioningService.createSchema(tenantId);
+    }
+}
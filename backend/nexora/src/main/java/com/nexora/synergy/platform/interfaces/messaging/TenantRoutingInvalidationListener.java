@@ -0,0 +1,55 @@
+package com.nexora.synergy.platform.interfaces.messaging;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import com.nexora.synergy.infrastructure.outbox.OutboxPayloadCodecs;
+import com.nexora.synergy.platform.application.tenant.service.TenantRoutingCache;
+
+/**
+ * TenantRoutingInvalidationListener — evicts routing cache entries when a
+ * tenant's routability changes.
+ *
+ * Every app node binds its own anonymous, auto-delete queue, so each node's
+ * in-process cache sees every activation/suspension (fan-out), no matter which
+ * node's dispatcher published it. The body is decoded by its content-type
+ * (JSON or Smile, see OutboxPayloadCodecs).
+ */
+@Component
+public class TenantRoutingInvalidationListener {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantRoutingInvalidationListener.class);
+
+    private final TenantRoutingCache routingCache;
+    private final OutboxPayloadCodecs payloadCodecs;
+
+    public TenantRoutingInvalidationListener(TenantRoutingCache routingCache, OutboxPayloadCodecs payloadCodecs) {
+        this.routingCache = routingCache;
+        this.payloadCodecs = payloadCodecs;
+    }
+
+    @RabbitListener(bindings = @QueueBinding(
+            value = @Queue(exclusive = "true", autoDelete = "true"),
+            exchange = @Exchange(value = "${zappschool.outbox.exchange:nexora.events}", type = ExchangeTypes.TOPIC),
+            key = {"tenant.activated.v1", "tenant.suspended.v1"}))
+    public void onTenantStatusChanged(Message message) throws IOException {
+        String subdomain = payloadCodecs.forContentType(message.getMessageProperties().getContentType())
+                .readTree(message.getBody()).path("subdomain").asText(null);
+        if (subdomain == null) {
+            log.warn("TenantRouting.invalidate: no subdomain in {}", message.getMessageProperties().getType());
+            return;
+        }
+        routingCache.evict(subdomain);
+        log.debug("TenantRouting.invalidate: subdomain={} type={}",
+                subdomain, message.getMessageProperties().getType());
+    }
+}
@@ -0,0 +1,43 @@
+package com.nexora.synergy.platform.interfaces.rest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import com.nexora.synergy.exception.DomainException;
+import com.nexora.synergy.exception.IdempotencyConflictException;
+import com.nexora.synergy.exception.TenantDomainAlreadyExistsException;
+
+/**
+ * ApiExceptionHandler — domain exceptions to HTTP statuses.
+ *
+ * AWS Equivalent: API Gateway ConflictException (409) for a resource that
+ * already exists or an operation already in flight.
+ *
+ * 1. TenantDomainAlreadyExistsException → 409, the subdomain is taken
+ * 2. IdempotencyConflictException → 409, a request with the same key is
+ *    still being processed; the client retries later
+ *
+ * The body is an RFC 9457 problem detail carrying the exception's errorCode.
+ * Everything else keeps Spring's default handling.
+ */
+@RestControllerAdvice
+public class ApiExceptionHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(ApiExceptionHandler.class);
+
+    @ExceptionHandler({TenantDomainAlreadyExistsException.class, IdempotencyConflictException.class})
+    public ProblemDetail conflict(DomainException ex) {
+        log.info("Api.conflict: errorCode={} message={}", ex.getErrorCode(), ex.getMessage());
+        return problem(HttpStatus.CONFLICT, ex);
+    }
+
+    private static ProblemDetail problem(HttpStatus status, DomainException ex) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(status, ex.getMessage());
+        problem.setProperty("errorCode", ex.getErrorCode());
+        return problem;
+    }
+}
@@ -0,0 +1,123 @@
+package com.nexora.synergy.platform.interfaces.rest.admin;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.nexora.synergy.infrastructure.outbox.DeadLetter;
+import com.nexora.synergy.infrastructure.outbox.DeadLetterRedriver;
+import com.nexora.synergy.infrastructure.outbox.DeadLetterRedriver.JobProgress;
+import com.nexora.synergy.infrastructure.outbox.DeadLetterStore;
+import com.nexora.synergy.infrastructure.outbox.DeadLetterStore.Cursor;
+import com.nexora.synergy.platform.interfaces.rest.tenant.ApiResponse;
+
+/**
+ * DeadLetterAdminController — inspect and replay DEAD_LETTER outbox messages.
+ *
+ * AWS Equivalent: SQS console "Start DLQ redrive".
+ *
+ * 1. GET /dead-letters — keyset pages filtered by eventType / aggregateId;
+ *    pass the returned nextCursor to get the following page (400 if it is
+ *    not one)
+ * 2. POST /dead-letters/redrive — starts a rate-limited bulk redrive job (202)
+ * 3. GET /dead-letters/redrive[/{jobId}] — job progress
+ * 4. DELETE /dead-letters/redrive/{jobId} — cancels a job after its current chunk
+ */
+@RestController
+@RequestMapping("/nexora/admin/outbox/dead-letters")
+public class DeadLetterAdminController {
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final DeadLetterStore deadLetterStore;
+    private final DeadLetterRedriver redriver;
+
+    public DeadLetterAdminController(DeadLetterStore deadLetterStore, DeadLetterRedriver redriver) {
+        this.deadLetterStore = deadLetterStore;
+        this.redriver = redriver;
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<DeadLetterPage>> list(
+            @RequestParam(required = false) String eventType,
+            @RequestParam(required = false) String aggregateId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        List<DeadLetter> items = deadLetterStore.findPage(eventType, aggregateId, decode(cursor), pageSize);
+        String nextCursor = items.size() == pageSize ? encode(Cursor.of(items.get(items.size() - 1))) : null;
+        return ResponseEntity.ok(ApiResponse.success(new DeadLetterPage(items, nextCursor)));
+    }
+
+    @PostMapping("/redrive")
+    public ResponseEntity<ApiResponse<JobProgress>> redrive(@RequestBody RedriveRequest request) {
+        JobProgress job = redriver.submit(request.eventType(), request.aggregateId(), request.maxMessages());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success(job));
+    }
+
+    @GetMapping("/redrive")
+    public ResponseEntity<ApiResponse<Collection<JobProgress>>> jobs() {
+        return ResponseEntity.ok(ApiResponse.success(redriver.jobs()));
+    }
+
+    @GetMapping("/redrive/{jobId}")
+    public ResponseEntity<ApiResponse<JobProgress>> job(@PathVariable UUID jobId) {
+        return redriver.status(jobId)
+                .map(job -> ResponseEntity.ok(ApiResponse.success(job)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping("/redrive/{jobId}")
+    public ResponseEntity<ApiResponse<JobProgress>> cancel(@PathVariable UUID jobId) {
+        return redriver.cancel(jobId)
+                .map(job -> ResponseEntity.ok(ApiResponse.success(job)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    // Opaque to clients: base64url("<epoch micros>:<uuid>").
+    static String encode(Cursor cursor) {
+        Instant at = cursor.createdAt();
+        String raw = (at.getEpochSecond() * 1_000_000 + at.getNano() / 1_000) + ":" + cursor.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Cursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(':');
+            long micros = Long.parseLong(raw.substring(0, sep));
+            Instant createdAt = Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+                    Math.floorMod(micros, 1_000_000) * 1_000L);
+            return new Cursor(createdAt, UUID.fromString(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor", e);
+        }
+    }
+
+    public record DeadLetterPage(List<DeadLetter> items, String nextCursor) {
+
+    }
+
+    public record RedriveRequest(String eventType, String aggregateId, Integer maxMessages) {
+
+    }
+}
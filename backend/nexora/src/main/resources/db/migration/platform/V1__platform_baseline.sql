@@ -0,0 +1,33 @@
+-- Platform schema: cross-tenant infrastructure tables.
+-- IF NOT EXISTS so environments that already have these tables baseline cleanly.
+
+CREATE TABLE IF NOT EXISTS platform.outbox_messages (
+    id UUID PRIMARY KEY,
+    aggregate_type VARCHAR(100) NOT NULL,
+    aggregate_id VARCHAR(36) NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,
+    correlation_id VARCHAR(100),
+    idempotency_key VARCHAR(200) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    retry_count INT NOT NULL DEFAULT 0,
+    last_error TEXT,
+    created_at TIMESTAMPTZ NOT NULL,
+    processed_at TIMESTAMPTZ,
+    next_retry_at TIMESTAMPTZ
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_status_retry ON platform.outbox_messages (status, next_retry_at);
+CREATE UNIQUE INDEX IF NOT EXISTS idx_outbox_idempotency ON platform.outbox_messages (idempotency_key);
+
+CREATE TABLE IF NOT EXISTS platform.idempotency_records (
+    id UUID PRIMARY KEY,
+    idempotency_key VARCHAR(255) NOT NULL,
+    operation VARCHAR(100) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    response_payload TEXT,
+    created_at TIMESTAMPTZ NOT NULL,
+    expires_at TIMESTAMPTZ NOT NULL
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_idempotency_key ON platform.idempotency_records (idempotency_key);
@@ -0,0 +1,10 @@
+-- Warm pool of pre-provisioned, unassigned tenant schemas.
+-- checksum = migration fingerprint the schema was built with; stale rows are dropped by the refiller.
+
+CREATE TABLE platform.tenant_schema_pool (
+    schema_name VARCHAR(63) PRIMARY KEY,
+    checksum VARCHAR(32) NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+CREATE INDEX idx_tenant_schema_pool_checksum ON platform.tenant_schema_pool (checksum, created_at);
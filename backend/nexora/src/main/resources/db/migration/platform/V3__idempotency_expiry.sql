@@ -0,0 +1,12 @@
+-- Idempotency records are short-lived: IdempotencySweeper deletes expired rows in
+-- batches, oldest first, through this index.
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_expires_at ON platform.idempotency_records (expires_at);
+
+-- High churn, small table: vacuum after ~2% dead rows (default 20%) so the heap and
+-- idx_idempotency_key reuse space instead of bloating between sweeps.
+ALTER TABLE platform.idempotency_records SET (
+    autovacuum_vacuum_scale_factor = 0.02,
+    autovacuum_vacuum_threshold = 1000,
+    autovacuum_analyze_scale_factor = 0.05
+);
@@ -0,0 +1,40 @@
+-- Archive for PROCESSED outbox messages, one partition per UTC day of processed_at.
+-- OutboxArchiver moves rows here after the retention window, creates partitions on
+-- demand and drops whole partitions once they age out. The hot table keeps only
+-- PENDING, PROCESSING, DEAD_LETTER and recently PROCESSED rows. Rows whose day has no
+-- partition yet land in the DEFAULT partition instead of failing the move.
+
+CREATE TABLE platform.outbox_messages_archive (
+    id UUID NOT NULL,
+    aggregate_type VARCHAR(100) NOT NULL,
+    aggregate_id VARCHAR(36) NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,
+    correlation_id VARCHAR(100),
+    idempotency_key VARCHAR(200) NOT NULL,
+    retry_count INT NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL,
+    processed_at TIMESTAMPTZ NOT NULL,
+    archived_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    PRIMARY KEY (id, processed_at)
+) PARTITION BY RANGE (processed_at);
+
+CREATE TABLE platform.outbox_messages_archive_default
+    PARTITION OF platform.outbox_messages_archive DEFAULT;
+
+-- lz4 TOAST compression needs PostgreSQL 14+ built with lz4; elsewhere the default (pglz) stays.
+-- Partitions created later copy the column's compression from the parent.
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_settings
+               WHERE name = 'default_toast_compression' AND 'lz4' = ANY (enumvals)) THEN
+        ALTER TABLE platform.outbox_messages_archive ALTER COLUMN payload SET COMPRESSION lz4;
+    END IF;
+END
+$$;
+
+CREATE INDEX idx_outbox_archive_aggregate ON platform.outbox_messages_archive (aggregate_type, aggregate_id);
+
+-- Archival candidates, oldest first, without scanning live rows.
+CREATE INDEX IF NOT EXISTS idx_outbox_processed_at ON platform.outbox_messages (processed_at)
+    WHERE status = 'PROCESSED';
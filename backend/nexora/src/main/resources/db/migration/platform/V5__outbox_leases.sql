@@ -0,0 +1,9 @@
+-- PROCESSING leases: the dispatcher node holding a claimed row and until when.
+-- Rows whose lease ran out (node died mid-batch) are returned to PENDING by OutboxLeaseKeeper.
+
+ALTER TABLE platform.outbox_messages
+    ADD COLUMN IF NOT EXISTS locked_by VARCHAR(100),
+    ADD COLUMN IF NOT EXISTS locked_until TIMESTAMPTZ;
+
+CREATE INDEX IF NOT EXISTS idx_outbox_processing_lease ON platform.outbox_messages (locked_until)
+    WHERE status = 'PROCESSING';
@@ -0,0 +1,4 @@
+-- Keyset pagination of dead letters (admin API): (created_at, id) order, DEAD_LETTER rows only.
+
+CREATE INDEX IF NOT EXISTS idx_outbox_dead_letter ON platform.outbox_messages (created_at, id)
+    WHERE status = 'DEAD_LETTER';
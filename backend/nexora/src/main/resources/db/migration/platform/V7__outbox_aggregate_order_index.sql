@@ -0,0 +1,6 @@
+-- Ordered dispatch: "is an earlier row of this aggregate still unfinished?" — one range scan
+-- over the aggregate's PENDING/PROCESSING rows.
+
+CREATE INDEX IF NOT EXISTS idx_outbox_aggregate_unfinished
+    ON platform.outbox_messages (aggregate_id, created_at, id)
+    WHERE status IN ('PENDING', 'PROCESSING');
@@ -0,0 +1,23 @@
+-- Outbox payloads as bytes in the format named by content_type (application/json or
+-- application/x-jackson-smile). Existing rows keep their JSON text in payload with
+-- content_type NULL, which readers treat as JSON.
+
+ALTER TABLE platform.outbox_messages
+    ALTER COLUMN payload DROP NOT NULL,
+    ADD COLUMN IF NOT EXISTS payload_bytes BYTEA,
+    ADD COLUMN IF NOT EXISTS content_type VARCHAR(100);
+
+ALTER TABLE platform.outbox_messages_archive
+    ALTER COLUMN payload DROP NOT NULL,
+    ADD COLUMN IF NOT EXISTS payload_bytes BYTEA,
+    ADD COLUMN IF NOT EXISTS content_type VARCHAR(100);
+
+-- Same condition as the archive's payload column (V4).
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_settings
+               WHERE name = 'default_toast_compression' AND 'lz4' = ANY (enumvals)) THEN
+        ALTER TABLE platform.outbox_messages_archive ALTER COLUMN payload_bytes SET COMPRESSION lz4;
+    END IF;
+END
+$$;
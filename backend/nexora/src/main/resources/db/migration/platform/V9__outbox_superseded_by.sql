@@ -0,0 +1,8 @@
+-- Compaction: the message that superseded a SUPERSEDED row. If that successor is
+-- dead-lettered, OutboxDispatchStore.complete() looks its superseded rows up here and
+-- puts the newest back to PENDING.
+
+ALTER TABLE platform.outbox_messages ADD COLUMN IF NOT EXISTS superseded_by UUID;
+
+CREATE INDEX IF NOT EXISTS idx_outbox_superseded_by ON platform.outbox_messages (superseded_by)
+    WHERE status = 'SUPERSEDED';
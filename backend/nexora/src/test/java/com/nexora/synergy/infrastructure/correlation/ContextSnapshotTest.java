@@ -0,0 +1,60 @@
+package com.nexora.synergy.infrastructure.correlation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+class ContextSnapshotTest {
+
+    @AfterEach
+    void tearDown() {
+        CorrelationContext.clear();
+        MDC.clear();
+    }
+
+    @Test
+    void correlationIdAndMdcFollowTheTaskOntoVirtualThreads() throws Exception {
+        CorrelationContext.set("req-1");
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Callable<String> seen = ContextSnapshot.capture()
+                    .wrap(() -> CorrelationContext.current().orElse(null) + "|" + MDC.get(CorrelationContext.MDC_KEY));
+
+            assertThat(executor.submit(seen).get()).isEqualTo("req-1|req-1");
+        }
+    }
+
+    @Test
+    void pooledThreadDoesNotKeepTheContextOfAPreviousTask() throws Exception {
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            CorrelationContext.set("req-1");
+            executor.submit(ContextSnapshot.capture().wrap(() -> { })).get();
+            CorrelationContext.clear();
+
+            Optional<String> leaked = executor.submit(CorrelationContext::current).get();
+            String fresh = executor.submit(ContextSnapshot.capture().wrap(
+                    () -> CorrelationContext.current().orElse("none"))).get();
+
+            assertThat(leaked).isEmpty();
+            assertThat(fresh).isEqualTo("none");
+        }
+    }
+
+    @Test
+    void invalidHeaderValuesAreReplacedWithAGeneratedId() {
+        CorrelationContext.setOrGenerate("abc-123:retry.2");
+        assertThat(CorrelationContext.get()).isEqualTo("abc-123:retry.2");
+
+        CorrelationContext.setOrGenerate("bad\nvalue");
+        assertThat(CorrelationContext.get()).isNotEqualTo("bad\nvalue").doesNotContain("\n");
+
+        CorrelationContext.setOrGenerate("x".repeat(101));
+        assertThat(CorrelationContext.get()).hasSizeLessThanOrEqualTo(100);
+    }
+}
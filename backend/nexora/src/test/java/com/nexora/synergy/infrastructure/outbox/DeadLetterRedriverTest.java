@@ -0,0 +1,53 @@
+package com.nexora.synergy.infrastructure.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.nexora.synergy.infrastructure.outbox.DeadLetterRedriver.JobStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class DeadLetterRedriverTest {
+
+    // no dead letters: a job completes after its first, empty page
+    private final DeadLetterStore store = mock(DeadLetterStore.class);
+    private DeadLetterRedriver redriver;
+
+    @AfterEach
+    void tearDown() {
+        redriver.shutdown();
+    }
+
+    @Test
+    void finishedJobsAreKeptForTheRetention() throws Exception {
+        redriver = new DeadLetterRedriver(store, new SimpleMeterRegistry(), 1_000, 25, 60);
+        UUID jobId = awaitFinished(redriver.submit("tenant.event.v1", null, null).jobId());
+
+        assertThat(redriver.status(jobId)).get().extracting(DeadLetterRedriver.JobProgress::status)
+                .isEqualTo(JobStatus.COMPLETED);
+        assertThat(redriver.jobs()).hasSize(1);
+    }
+
+    @Test
+    void finishedJobsAreForgottenAfterTheRetention() throws Exception {
+        redriver = new DeadLetterRedriver(store, new SimpleMeterRegistry(), 1_000, 25, 0);
+        UUID jobId = awaitFinished(redriver.submit(null, null, null).jobId());
+
+        assertThat(redriver.jobs()).isEmpty();
+        assertThat(redriver.status(jobId)).isEmpty();
+    }
+
+    private UUID awaitFinished(UUID jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (redriver.jobs().stream().anyMatch(j -> j.jobId().equals(jobId) && j.finishedAt() == null)) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+        return jobId;
+    }
+}
@@ -0,0 +1,118 @@
+package com.nexora.synergy.infrastructure.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * IdempotencyRepository.claim's INSERT ... ON CONFLICT against a local
+ * Postgres: NEXORA_TEST_PG_URL (+ NEXORA_TEST_PG_USER,
+ * NEXORA_TEST_PG_PASSWORD). Applies the platform migrations; test keys are
+ * deleted afterwards.
+ */
+@EnabledIfEnvironmentVariable(named = "NEXORA_TEST_PG_URL", matches = ".+")
+class IdempotencyClaimSqlTest {
+
+    private final String key = "claim-" + UUID.randomUUID();
+    private JdbcTemplate jdbc;
+    private NamedParameterJdbcTemplate named;
+    private TransactionTemplate tx;
+    private String claimSql;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(System.getenv("NEXORA_TEST_PG_URL"),
+                System.getenv("NEXORA_TEST_PG_USER"), System.getenv("NEXORA_TEST_PG_PASSWORD"));
+        Flyway.configure().dataSource(dataSource).schemas("platform").createSchemas(true)
+                .locations("classpath:db/migration/platform").load().migrate();
+        jdbc = new JdbcTemplate(dataSource);
+        named = new NamedParameterJdbcTemplate(jdbc);
+        tx = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        claimSql = IdempotencyRepository.class.getMethod("claim", UUID.class, String.class, String.class,
+                Instant.class).getAnnotation(Query.class).value();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbc.update("DELETE FROM platform.idempotency_records WHERE idempotency_key = ?", key);
+    }
+
+    @Test
+    void firstRequestClaimsTheKeyAndLaterOnesSeeItsState() {
+        assertThat(claim()).containsEntry("claimed", true).containsEntry("status", "IN_PROGRESS");
+        assertThat(claim()).containsEntry("claimed", false).containsEntry("status", "IN_PROGRESS");
+
+        jdbc.update("UPDATE platform.idempotency_records SET status = 'COMPLETE', response_payload = '{}'"
+                + " WHERE idempotency_key = ?", key);
+
+        assertThat(claim()).containsEntry("claimed", false).containsEntry("status", "COMPLETE")
+                .containsEntry("responsePayload", "{}");
+        assertThat(jdbc.queryForObject("SELECT count(*) FROM platform.idempotency_records WHERE idempotency_key = ?",
+                Integer.class, key)).isOne();
+    }
+
+    @Test
+    void expiredKeyIsTakenOver() {
+        claim();
+        jdbc.update("UPDATE platform.idempotency_records SET status = 'COMPLETE', response_payload = '{}',"
+                + " expires_at = now() - interval '1 minute' WHERE idempotency_key = ?", key);
+
+        assertThat(claim()).containsEntry("claimed", true).containsEntry("status", "IN_PROGRESS")
+                .containsEntry("responsePayload", null);
+    }
+
+    @Test
+    void requestRacingAnUncommittedClaimGetsNoRow() throws Exception {
+        CompletableFuture<List<Map<String, Object>>> loser = new CompletableFuture<>();
+        tx.executeWithoutResult(status -> {
+            claim();
+            CompletableFuture.runAsync(() -> loser.complete(tx.execute(s -> claimRows())));
+            try {
+                waitUntilBlocked();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertThat(loser.get(10, TimeUnit.SECONDS)).isEmpty();
+    }
+
+    private Map<String, Object> claim() {
+        List<Map<String, Object>> rows = claimRows();
+        assertThat(rows).hasSize(1);
+        return rows.get(0);
+    }
+
+    private List<Map<String, Object>> claimRows() {
+        return named.queryForList(claimSql, Map.of("id", UUID.randomUUID(), "key", key,
+                "operation", "REGISTER_TENANT", "expiresAt", Timestamp.from(Instant.now().plusSeconds(3600))));
+    }
+
+    /** Until another backend waits on a lock — the loser's INSERT on the unique index. */
+    private void waitUntilBlocked() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (jdbc.queryForObject("SELECT count(*) FROM pg_stat_activity WHERE wait_event_type = 'Lock'"
+                + " AND query LIKE '%idempotency_records%'", Integer.class) == 0) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.nexora.synergy.infrastructure.outbox;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-memory broker stand-in: records every confirmed message and nacks the
+ * event types it has been told to reject.
+ */
+class InMemoryOutboxMessageSender implements OutboxMessageSender {
+
+    private final List<OutboxMessage> delivered = new CopyOnWriteArrayList<>();
+    private final Set<String> rejectedEventTypes = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public void send(OutboxMessage message) {
+        if (rejectedEventTypes.contains(message.getEventType())) {
+            throw new IllegalStateException("nack: " + message.getEventType());
+        }
+        delivered.add(message);
+    }
+
+    void reject(String eventType) {
+        rejectedEventTypes.add(eventType);
+    }
+
+    List<OutboxMessage> delivered() {
+        return delivered;
+    }
+}
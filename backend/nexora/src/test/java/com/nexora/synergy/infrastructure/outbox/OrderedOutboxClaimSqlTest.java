@@ -0,0 +1,118 @@
+package com.nexora.synergy.infrastructure.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * The ordered-claim SQL itself (OutboxDispatchStore.LOCK_DUE_AGGREGATES_SQL
+ * and OutboxRepository.findOrderedPendingForDispatch) — the stress test only
+ * exercises an in-memory model of these rules.
+ *
+ * Runs against a local Postgres: NEXORA_TEST_PG_URL (+ NEXORA_TEST_PG_USER,
+ * NEXORA_TEST_PG_PASSWORD). Applies the platform migrations; test rows are
+ * dated 2000-01-01 so they are the oldest in the table, and are deleted
+ * afterwards.
+ */
+@EnabledIfEnvironmentVariable(named = "NEXORA_TEST_PG_URL", matches = ".+")
+class OrderedOutboxClaimSqlTest {
+
+    private static final Instant EPOCH = Instant.parse("2000-01-01T00:00:00Z");
+
+    private final String run = "sql-" + UUID.randomUUID().toString().substring(0, 8) + "-";
+    private JdbcTemplate jdbc;
+    private NamedParameterJdbcTemplate named;
+    private TransactionTemplate tx;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(System.getenv("NEXORA_TEST_PG_URL"),
+                System.getenv("NEXORA_TEST_PG_USER"), System.getenv("NEXORA_TEST_PG_PASSWORD"));
+        Flyway.configure().dataSource(dataSource).schemas("platform").createSchemas(true)
+                .locations("classpath:db/migration/platform").load().migrate();
+        jdbc = new JdbcTemplate(dataSource);
+        named = new NamedParameterJdbcTemplate(jdbc);
+        tx = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbc.update("DELETE FROM platform.outbox_messages WHERE aggregate_id LIKE ?", run + "%");
+    }
+
+    @Test
+    void aggregatesBlockedBehindABackoffDoNotTakeTheHealthyOnesSlots() throws Exception {
+        Instant now = Instant.now();
+        for (int i = 0; i < 3; i++) {
+            // predecessor in backoff, successor held back (due, but blocked)
+            insert(run + "blocked-" + i, 0, "PENDING", now.plusSeconds(300));
+            insert(run + "blocked-" + i, 1, "PENDING", now);
+        }
+        String healthy = insert(run + "healthy", 10, "PENDING", now);
+
+        List<String> aggregates = lockDueAggregates(now, 3);
+        assertThat(aggregates).containsExactly(run + "healthy");
+
+        List<Map<String, Object>> claimable = findOrderedPending(now, aggregates, 10);
+        assertThat(claimable).extracting(r -> r.get("id").toString()).containsExactly(healthy);
+    }
+
+    @Test
+    void processingPredecessorBlocksWhileADeadLetteredOneDoesNot() throws Exception {
+        Instant now = Instant.now();
+        insert(run + "in-flight", 0, "PROCESSING", null);
+        insert(run + "in-flight", 1, "PENDING", now);
+        insert(run + "dead", 2, "DEAD_LETTER", null);
+        String afterDead = insert(run + "dead", 3, "PENDING", now);
+
+        List<String> aggregates = lockDueAggregates(now, 10);
+        assertThat(aggregates).containsExactly(run + "dead");
+        assertThat(findOrderedPending(now, List.of(run + "in-flight", run + "dead"), 10))
+                .extracting(r -> r.get("id").toString()).containsExactly(afterDead);
+    }
+
+    private List<String> lockDueAggregates(Instant now, int limit) {
+        Timestamp dueBy = Timestamp.from(now);
+        return tx.execute(status -> jdbc.queryForList(OutboxDispatchStore.LOCK_DUE_AGGREGATES_SQL, String.class,
+                dueBy, dueBy, limit)).stream().filter(a -> a.startsWith(run)).toList();
+    }
+
+    private List<Map<String, Object>> findOrderedPending(Instant now, Collection<String> aggregateIds, int limit)
+            throws Exception {
+        String sql = OutboxRepository.class.getMethod("findOrderedPendingForDispatch",
+                Instant.class, Collection.class, int.class).getAnnotation(Query.class).value();
+        return tx.execute(status -> named.queryForList(sql, Map.of(
+                "now", Timestamp.from(now), "aggregateIds", aggregateIds, "limit", limit)));
+    }
+
+    private String insert(String aggregateId, int secondsAfterEpoch, String status, Instant nextRetryAt) {
+        UUID id = UUID.randomUUID();
+        jdbc.update("""
+                INSERT INTO platform.outbox_messages
+                    (id, aggregate_type, aggregate_id, event_type, payload, idempotency_key, status, created_at,
+                     next_retry_at, locked_by, locked_until)
+                VALUES (?, 'Tenant', ?, 'tenant.event.v1', '{}', ?, ?, ?, ?, ?, ?)
+                """, id, aggregateId, id.toString(), status, Timestamp.from(EPOCH.plusSeconds(secondsAfterEpoch)),
+                nextRetryAt != null ? Timestamp.from(nextRetryAt) : null,
+                "PROCESSING".equals(status) ? "other-node" : null,
+                "PROCESSING".equals(status) ? Timestamp.from(Instant.now().plusSeconds(60)) : null);
+        return id.toString();
+    }
+}
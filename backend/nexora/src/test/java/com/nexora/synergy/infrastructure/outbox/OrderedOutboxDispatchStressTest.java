@@ -0,0 +1,215 @@
+package com.nexora.synergy.infrastructure.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.nexora.synergy.infrastructure.outbox.OutboxMessage.OutboxStatus;
+import com.nexora.synergy.infrastructure.outbox.OutboxRetryPolicy.Jitter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Several dispatcher nodes drain one shared outbox through a broker that is
+ * slow and nacks 5% of sends. The table is modelled in memory with the same
+ * claim rules as OutboxDispatchStore (an aggregate's row is claimable only
+ * when no earlier row of it is in flight or in backoff; claims are atomic, as
+ * the per-aggregate advisory locks make them).
+ */
+class OrderedOutboxDispatchStressTest {
+
+    private static final int NODES = 4;
+    private static final int TENANTS = 200;
+    private static final int EVENTS_PER_TENANT = 25;
+
+    @Test
+    void orderedDispatchKeepsEveryTenantsEventsInOrder() throws Exception {
+        Run run = drain(true);
+
+        assertThat(run.broker().deliveries).hasSize(TENANTS * EVENTS_PER_TENANT);
+        run.deliveredSequences().forEach((tenant, sequence) ->
+                assertThat(sequence).as(tenant).isSorted().hasSize(EVENTS_PER_TENANT).doesNotHaveDuplicates());
+        assertThat(run.broker().maxInFlight.get()).as("tenants published in parallel").isGreaterThan(NODES);
+    }
+
+    /** Guards the test itself: without ordering the same load does reorder. */
+    @Test
+    void unorderedDispatchReordersUnderTheSameLoad() throws Exception {
+        Run run = drain(false);
+
+        assertThat(run.deliveredSequences().values()).anyMatch(sequence -> !isSorted(sequence));
+    }
+
+    private static Run drain(boolean ordered) throws Exception {
+        InMemoryOutboxTable table = new InMemoryOutboxTable(ordered);
+        for (int e = 0; e < EVENTS_PER_TENANT; e++) {
+            for (int t = 0; t < TENANTS; t++) {
+                table.insert("tenant-" + t, e);
+            }
+        }
+        FlakyBroker broker = new FlakyBroker(table);
+        OutboxRetryPolicies retryPolicies = OutboxRetryPolicies.of(
+                new OutboxRetryPolicy(Jitter.FULL, Duration.ofMillis(1), Duration.ofMillis(5), 1000));
+
+        ExecutorService nodes = Executors.newFixedThreadPool(NODES);
+        try {
+            List<Future<?>> running = new ArrayList<>();
+            for (int n = 0; n < NODES; n++) {
+                OutboxDispatchStore store = mock(OutboxDispatchStore.class);
+                when(store.claim(anyInt())).thenAnswer(inv -> table.claim(inv.getArgument(0)));
+                doAnswer(inv -> {
+                    table.complete(inv.getArgument(0));
+                    return null;
+                }).when(store).complete(any());
+                OutboxDispatcher dispatcher = new OutboxDispatcher(store, OutboxCompactor.disabled(), broker,
+                        new SimpleMeterRegistry(), retryPolicies, 64, 8, ordered, 8);
+                running.add(nodes.submit(() -> {
+                    long deadline = System.nanoTime() + Duration.ofSeconds(60).toNanos();
+                    while (!table.drained() && System.nanoTime() < deadline) {
+                        if (dispatcher.dispatchBatch() == 0) {
+                            Thread.onSpinWait();
+                        }
+                    }
+                    dispatcher.shutdown();
+                }));
+            }
+            for (Future<?> node : running) {
+                node.get();
+            }
+        } finally {
+            nodes.shutdownNow();
+        }
+        assertThat(table.drained()).isTrue();
+        return new Run(table, broker);
+    }
+
+    private static boolean isSorted(List<Integer> sequence) {
+        for (int i = 1; i < sequence.size(); i++) {
+            if (sequence.get(i - 1) > sequence.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record Run(InMemoryOutboxTable table, FlakyBroker broker) {
+
+        Map<String, List<Integer>> deliveredSequences() {
+            Map<String, List<Integer>> sequences = new HashMap<>();
+            for (OutboxMessage m : broker.deliveries) {
+                sequences.computeIfAbsent(m.getAggregateId(), k -> new ArrayList<>()).add(table.sequenceOf(m));
+            }
+            return sequences;
+        }
+    }
+
+    /** Slow broker (0–2 ms per send) that nacks 5% of sends. */
+    private static final class FlakyBroker implements OutboxMessageSender {
+
+        final List<OutboxMessage> deliveries = new CopyOnWriteArrayList<>();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        private final InMemoryOutboxTable table;
+
+        FlakyBroker(InMemoryOutboxTable table) {
+            this.table = table;
+        }
+
+        @Override
+        public void send(OutboxMessage message) throws Exception {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(0, ThreadLocalRandom.current().nextInt(2_000_000));
+                if (ThreadLocalRandom.current().nextInt(100) < 5) {
+                    throw new IllegalStateException("nack: " + table.sequenceOf(message));
+                }
+                deliveries.add(message);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * platform.outbox_messages in insertion (created_at) order. Row state is
+     * kept apart from the message objects the dispatcher mutates: like the
+     * real table it only changes on claim() and complete().
+     */
+    private static final class InMemoryOutboxTable {
+
+        private final boolean ordered;
+        private final List<OutboxMessage> messages = new ArrayList<>();
+        private final Map<UUID, Integer> sequences = new ConcurrentHashMap<>();
+        private final Map<UUID, OutboxStatus> status = new HashMap<>();
+        private final Map<UUID, Instant> nextRetryAt = new HashMap<>();
+
+        InMemoryOutboxTable(boolean ordered) {
+            this.ordered = ordered;
+        }
+
+        synchronized void insert(String aggregateId, int sequence) {
+            OutboxMessage m = OutboxMessage.create("Tenant", aggregateId, "tenant.event.v1", "{}",
+                    "zs-test", UUID.randomUUID().toString());
+            messages.add(m);
+            sequences.put(m.getId(), sequence);
+            status.put(m.getId(), OutboxStatus.PENDING);
+            nextRetryAt.put(m.getId(), m.getNextRetryAt());
+        }
+
+        synchronized List<OutboxMessage> claim(int limit) {
+            Instant now = Instant.now();
+            Map<String, Boolean> blocked = new HashMap<>();
+            List<OutboxMessage> batch = new ArrayList<>();
+            for (OutboxMessage m : messages) {
+                if (batch.size() == limit) {
+                    break;
+                }
+                OutboxStatus s = status.get(m.getId());
+                boolean due = s == OutboxStatus.PENDING && !nextRetryAt.get(m.getId()).isAfter(now);
+                if (due && !(ordered && blocked.containsKey(m.getAggregateId()))) {
+                    m.markProcessing("test-node", now.plusSeconds(60));
+                    status.put(m.getId(), OutboxStatus.PROCESSING);
+                    batch.add(m);
+                } else if (s == OutboxStatus.PROCESSING || s == OutboxStatus.PENDING) {
+                    blocked.put(m.getAggregateId(), true); // in flight or in backoff
+                }
+            }
+            return batch;
+        }
+
+        synchronized void complete(List<OutboxMessage> batch) {
+            for (OutboxMessage m : batch) {
+                status.put(m.getId(), m.getStatus());
+                nextRetryAt.put(m.getId(), m.getNextRetryAt());
+            }
+        }
+
+        synchronized boolean drained() {
+            return status.values().stream().allMatch(s -> s == OutboxStatus.PROCESSED);
+        }
+
+        int sequenceOf(OutboxMessage m) {
+            return sequences.get(m.getId());
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.nexora.synergy.infrastructure.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * OutboxArchiver against a local Postgres: NEXORA_TEST_PG_URL (+
+ * NEXORA_TEST_PG_USER, NEXORA_TEST_PG_PASSWORD). Applies the platform
+ * migrations; test rows are processed a few days ago (inside the archive
+ * retention) and deleted afterwards, from both tables.
+ */
+@EnabledIfEnvironmentVariable(named = "NEXORA_TEST_PG_URL", matches = ".+")
+class OutboxArchiverTest {
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final String run = "arc-" + UUID.randomUUID().toString().substring(0, 8) + "-";
+    private JdbcTemplate jdbc;
+    private DataSourceTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(System.getenv("NEXORA_TEST_PG_URL"),
+                System.getenv("NEXORA_TEST_PG_USER"), System.getenv("NEXORA_TEST_PG_PASSWORD"));
+        Flyway.configure().dataSource(dataSource).schemas("platform").createSchemas(true)
+                .locations("classpath:db/migration/platform").load().migrate();
+        jdbc = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbc.update("DELETE FROM platform.outbox_messages WHERE aggregate_id LIKE ?", run + "%");
+        jdbc.update("DELETE FROM platform.outbox_messages_archive WHERE aggregate_id LIKE ?", run + "%");
+    }
+
+    @Test
+    void movesProcessedRowsIntoTheirDayPartition() {
+        Instant processedAt = Instant.now().minus(2, ChronoUnit.DAYS);
+        String id = insertProcessed(run + "a", processedAt);
+
+        archiver().archive();
+
+        assertThat(jdbc.queryForObject("SELECT count(*) FROM platform.outbox_messages WHERE id = ?::uuid",
+                Integer.class, id)).isZero();
+        assertThat(partitionOf(id)).isEqualTo(partitionName(processedAt));
+    }
+
+    @Test
+    void rowsStrandedInTheDefaultPartitionMoveWhenTheirDayIsCreated() {
+        Instant processedAt = Instant.now().minus(20, ChronoUnit.DAYS);
+        jdbc.execute("DROP TABLE IF EXISTS platform." + partitionName(processedAt));
+        String stranded = UUID.randomUUID().toString();
+        jdbc.update("""
+                INSERT INTO platform.outbox_messages_archive
+                    (id, aggregate_type, aggregate_id, event_type, payload, idempotency_key, retry_count,
+                     created_at, processed_at)
+                VALUES (?::uuid, 'Tenant', ?, 'tenant.event.v1', '{}', ?, 0, ?, ?)
+                """, stranded, run + "stranded", stranded, Timestamp.from(processedAt),
+                Timestamp.from(processedAt));
+        assertThat(partitionOf(stranded)).isEqualTo(OutboxArchiver.DEFAULT_PARTITION);
+        String id = insertProcessed(run + "b", processedAt);
+
+        archiver().archive();
+
+        assertThat(partitionOf(stranded)).isEqualTo(partitionName(processedAt));
+        assertThat(partitionOf(id)).isEqualTo(partitionName(processedAt));
+        assertThat(jdbc.queryForObject("""
+                SELECT count(*) FROM pg_inherits
+                WHERE inhparent = 'platform.outbox_messages_archive'::regclass
+                  AND inhrelid = 'platform.outbox_messages_archive_default'::regclass
+                """, Integer.class)).isOne();
+    }
+
+    @Test
+    void concurrentRunsCreateEachPartitionOnce() throws Exception {
+        List<String> ids = new ArrayList<>();
+        for (int d = 3; d < 9; d++) {
+            Instant processedAt = Instant.now().minus(d, ChronoUnit.DAYS);
+            jdbc.execute("DROP TABLE IF EXISTS platform." + partitionName(processedAt));
+            ids.add(insertProcessed(run + "c" + d, processedAt));
+        }
+        int nodes = 4;
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService pool = Executors.newFixedThreadPool(nodes)) {
+            List<Future<?>> runs = new ArrayList<>();
+            for (int n = 0; n < nodes; n++) {
+                OutboxArchiver archiver = archiver();
+                runs.add(pool.submit(() -> {
+                    start.await();
+                    archiver.archive();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> r : runs) {
+                r.get(); // no duplicate-partition errors
+            }
+        }
+        for (String id : ids) {
+            assertThat(partitionOf(id)).isNotEqualTo(OutboxArchiver.DEFAULT_PARTITION);
+        }
+    }
+
+    private OutboxArchiver archiver() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        return new OutboxArchiver(jdbc, transactionManager, registry, new OutboxMetrics(jdbc, registry),
+                24, 30, 5000, 20);
+    }
+
+    private String insertProcessed(String aggregateId, Instant processedAt) {
+        UUID id = UUID.randomUUID();
+        jdbc.update("""
+                INSERT INTO platform.outbox_messages
+                    (id, aggregate_type, aggregate_id, event_type, payload, idempotency_key, status, created_at,
+                     processed_at)
+                VALUES (?, 'Tenant', ?, 'tenant.event.v1', '{}', ?, 'PROCESSED', ?, ?)
+                """, id, aggregateId, id.toString(), Timestamp.from(processedAt), Timestamp.from(processedAt));
+        return id.toString();
+    }
+
+    private String partitionOf(String id) {
+        return jdbc.queryForObject(
+                "SELECT tableoid::regclass::text FROM platform.outbox_messages_archive WHERE id = ?::uuid",
+                String.class, id).replace("platform.", "");
+    }
+
+    private static String partitionName(Instant processedAt) {
+        return "outbox_messages_archive_" + LocalDate.ofInstant(processedAt, ZoneOffset.UTC).format(SUFFIX);
+    }
+}
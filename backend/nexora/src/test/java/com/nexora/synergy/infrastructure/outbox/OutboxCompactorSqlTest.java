@@ -0,0 +1,160 @@
+package com.nexora.synergy.infrastructure.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.nexora.synergy.infrastructure.outbox.OutboxMessage.OutboxStatus;
+import com.nexora.synergy.infrastructure.outbox.OutboxRetryPolicy.Jitter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * OutboxCompactor's SQL, and the restore OutboxDispatchStore.complete() runs
+ * for dead letters, against a local Postgres: NEXORA_TEST_PG_URL (+
+ * NEXORA_TEST_PG_USER, NEXORA_TEST_PG_PASSWORD). Applies the platform
+ * migrations; test rows are deleted afterwards.
+ */
+@EnabledIfEnvironmentVariable(named = "NEXORA_TEST_PG_URL", matches = ".+")
+class OutboxCompactorSqlTest {
+
+    /** The first failure dead-letters. */
+    private static final OutboxRetryPolicy NO_RETRIES = new OutboxRetryPolicy(Jitter.FULL,
+            Duration.ofSeconds(1), Duration.ofSeconds(1), 1);
+    private static final OutboxRetryPolicy RETRIES = new OutboxRetryPolicy(Jitter.FULL,
+            Duration.ofSeconds(1), Duration.ofSeconds(1), 3);
+
+    private final String aggregateId = "cmp-" + UUID.randomUUID().toString().substring(0, 8);
+    private JdbcTemplate jdbc;
+    private final OutboxRepository repository = mock(OutboxRepository.class);
+    private OutboxCompactor compactor;
+    private OutboxDispatchStore store;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(System.getenv("NEXORA_TEST_PG_URL"),
+                System.getenv("NEXORA_TEST_PG_USER"), System.getenv("NEXORA_TEST_PG_PASSWORD"));
+        Flyway.configure().dataSource(dataSource).schemas("platform").createSchemas(true)
+                .locations("classpath:db/migration/platform").load().migrate();
+        jdbc = new JdbcTemplate(dataSource);
+        OutboxCompactionProperties properties = new OutboxCompactionProperties();
+        properties.setEnabled(true);
+        properties.setEventTypes(Map.of("tenant.activated.v1", "tenant-status",
+                "tenant.suspended.v1", "tenant-status"));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        compactor = new OutboxCompactor(jdbc, registry, properties);
+        store = new OutboxDispatchStore(repository, jdbc, new OutboxMetrics(jdbc, registry), 60_000, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbc.update("DELETE FROM platform.outbox_messages WHERE aggregate_id = ?", aggregateId);
+    }
+
+    @Test
+    void olderMessagesOfAFamilyAreSupersededByTheNewestUnsentOne() {
+        OutboxMessage first = claim(insert("tenant.suspended.v1", 0));
+        OutboxMessage second = claim(insert("tenant.activated.v1", 1));
+        OutboxMessage newest = insert("tenant.suspended.v1", 2);
+        OutboxMessage otherFamily = claim(insert("tenant.registered.v1", 3));
+
+        assertThat(compactor.compact(List.of(first, second, otherFamily))).isEqualTo(2);
+
+        assertThat(first.getStatus()).isEqualTo(OutboxStatus.SUPERSEDED);
+        assertThat(first.getSupersededBy()).isEqualTo(newest.getId());
+        assertThat(second.getSupersededBy()).isEqualTo(newest.getId());
+        assertThat(first.getLastError()).isNull();
+        assertThat(otherFamily.getStatus()).isEqualTo(OutboxStatus.PROCESSING);
+    }
+
+    @Test
+    void completeWritesTheSupersededLink() {
+        OutboxMessage older = claim(insert("tenant.suspended.v1", 0));
+        OutboxMessage newer = insert("tenant.activated.v1", 1);
+        compactor.compact(List.of(older));
+
+        store.complete(List.of(older));
+
+        assertThat(row(older.getId())).containsEntry("status", "SUPERSEDED")
+                .containsEntry("superseded_by", newer.getId());
+    }
+
+    @Test
+    void deadLetteredSuccessorRestoresTheNewestMessageItSuperseded() {
+        OutboxMessage oldest = claim(insert("tenant.suspended.v1", 0));
+        OutboxMessage middle = claim(insert("tenant.activated.v1", 1));
+        OutboxMessage newest = insert("tenant.suspended.v1", 2);
+        compactor.compact(List.of(oldest, middle));
+        store.complete(List.of(oldest, middle));
+        claim(newest).markFailed("boom", NO_RETRIES);
+
+        store.complete(List.of(newest));
+
+        assertThat(row(newest.getId())).containsEntry("status", "DEAD_LETTER");
+        assertThat(row(middle.getId())).containsEntry("status", "PENDING")
+                .containsEntry("superseded_by", null)
+                .containsEntry("last_error", "restored: successor " + newest.getId() + " dead-lettered");
+        assertThat(row(middle.getId()).get("next_retry_at")).isNotNull();
+        assertThat(row(oldest.getId())).containsEntry("status", "SUPERSEDED")
+                .containsEntry("superseded_by", middle.getId());
+    }
+
+    @Test
+    void successorThatIsNotDeadLetteredRestoresNothing() {
+        OutboxMessage older = claim(insert("tenant.suspended.v1", 0));
+        OutboxMessage newer = insert("tenant.activated.v1", 1);
+        compactor.compact(List.of(older));
+        store.complete(List.of(older));
+        claim(newer).markFailed("boom", RETRIES);
+
+        store.complete(List.of(newer));
+
+        assertThat(row(newer.getId())).containsEntry("status", "PENDING");
+        assertThat(row(older.getId())).containsEntry("status", "SUPERSEDED")
+                .containsEntry("superseded_by", newer.getId());
+    }
+
+    private OutboxMessage insert(String eventType, int order) {
+        OutboxMessage m = OutboxMessage.create("Tenant", aggregateId, eventType, "{}", "zs-test",
+                UUID.randomUUID().toString());
+        jdbc.update("""
+                INSERT INTO platform.outbox_messages
+                    (id, aggregate_type, aggregate_id, event_type, payload, idempotency_key, status, created_at,
+                     next_retry_at)
+                VALUES (?, 'Tenant', ?, ?, '{}', ?, 'PENDING', ?, now())
+                """, m.getId(), aggregateId, eventType, m.getId().toString(),
+                Timestamp.from(Instant.parse("2000-01-01T00:00:00Z").plusSeconds(order)));
+        return m;
+    }
+
+    /** Claims through the store; the mocked repository's lease is mirrored onto the row. */
+    private OutboxMessage claim(OutboxMessage m) {
+        when(repository.findPendingForDispatch(any(), anyInt())).thenReturn(List.of(m));
+        store.claim(1);
+        jdbc.update("UPDATE platform.outbox_messages SET status = 'PROCESSING', locked_by = ?, locked_until = ?"
+                + " WHERE id = ?", m.getLockedBy(), Timestamp.from(m.getLockedUntil()), m.getId());
+        return m;
+    }
+
+    private Map<String, Object> row(UUID id) {
+        return jdbc.queryForMap(
+                "SELECT status, superseded_by, last_error, next_retry_at FROM platform.outbox_messages WHERE id = ?", id);
+    }
+}
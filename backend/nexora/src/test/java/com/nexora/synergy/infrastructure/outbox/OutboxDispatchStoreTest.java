@@ -0,0 +1,107 @@
+package com.nexora.synergy.infrastructure.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import com.nexora.synergy.infrastructure.outbox.OutboxRetryPolicy.Jitter;
+
+class OutboxDispatchStoreTest {
+
+    /** The first failure dead-letters. */
+    private static final OutboxRetryPolicy NO_RETRIES = new OutboxRetryPolicy(Jitter.FULL,
+            Duration.ofSeconds(1), Duration.ofSeconds(1), 1);
+
+    private final OutboxRepository repository = mock(OutboxRepository.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final OutboxMetrics outboxMetrics = mock(OutboxMetrics.class);
+    private final OutboxDispatchStore store = new OutboxDispatchStore(repository, jdbcTemplate, outboxMetrics,
+            60_000, false);
+
+    @Test
+    void leasesOfAFailedCompleteAreNoLongerExtended() {
+        List<OutboxMessage> batch = claim(3);
+        when(jdbcTemplate.update(anyString(), any(), any(), any())).thenReturn(3);
+        assertThat(store.extendLeases()).isEqualTo(3);
+
+        when(jdbcTemplate.batchUpdate(anyString(), eq(batch), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new TransientDataAccessResourceException("connection reset"));
+        assertThatThrownBy(() -> store.complete(batch)).isInstanceOf(TransientDataAccessResourceException.class);
+
+        // nothing held any more: the leases lapse and reapExpiredLeases() hands the rows back
+        assertThat(store.extendLeases()).isZero();
+        verify(jdbcTemplate, never()).update(anyString(), any(), any(), any(), any());
+    }
+
+    @Test
+    void abandonedBatchIsNoLongerExtended() {
+        List<OutboxMessage> batch = claim(2);
+
+        store.abandon(batch);
+
+        assertThat(store.extendLeases()).isZero();
+    }
+
+    @Test
+    void deadLettersRestoreWhatTheySupersededInTheSameComplete() {
+        List<OutboxMessage> batch = claim(3);
+        batch.get(0).markProcessed();
+        batch.get(1).markFailed("boom", NO_RETRIES);
+        batch.get(2).markFailed("boom", NO_RETRIES);
+        when(jdbcTemplate.batchUpdate(anyString(), eq(batch), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenReturn(new int[][] {{1, 1, 0}}); // the third row's lease was lost
+        List<Object> deadLettered = new ArrayList<>();
+        when(jdbcTemplate.queryForList(eq(OutboxDispatchStore.RESTORE_SUPERSEDED_SQL), eq(UUID.class), any(Object[].class)))
+                .thenAnswer(inv -> {
+                    deadLettered.add(inv.getArgument(2));
+                    return List.of(UUID.randomUUID());
+                });
+
+        store.complete(batch);
+
+        assertThat(deadLettered).singleElement()
+                .isEqualTo(new String[] {batch.get(1).getId().toString()});
+        verify(outboxMetrics).restored(1);
+    }
+
+    @Test
+    void completeWithoutDeadLettersRestoresNothing() {
+        List<OutboxMessage> batch = claim(2);
+        batch.forEach(OutboxMessage::markProcessed);
+        when(jdbcTemplate.batchUpdate(anyString(), eq(batch), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenReturn(new int[][] {{1, 1}});
+
+        store.complete(batch);
+
+        verify(jdbcTemplate, never()).queryForList(eq(OutboxDispatchStore.RESTORE_SUPERSEDED_SQL), eq(UUID.class),
+                any(Object[].class));
+        verify(outboxMetrics, never()).restored(anyInt());
+    }
+
+    private List<OutboxMessage> claim(int count) {
+        List<OutboxMessage> pending = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            pending.add(OutboxMessage.create("Tenant", UUID.randomUUID().toString(), "tenant.registered.v1",
+                    "{}", "zs-test", UUID.randomUUID().toString()));
+        }
+        when(repository.findPendingForDispatch(any(), anyInt())).thenReturn(pending);
+        return store.claim(count);
+    }
+}
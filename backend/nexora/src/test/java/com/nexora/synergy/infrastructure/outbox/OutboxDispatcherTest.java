@@ -0,0 +1,107 @@
+package com.nexora.synergy.infrastructure.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.nexora.synergy.infrastructure.outbox.OutboxMessage.OutboxStatus;
+import com.nexora.synergy.infrastructure.outbox.OutboxRetryPolicy.Jitter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class OutboxDispatcherTest {
+
+    private final OutboxDispatchStore store = mock(OutboxDispatchStore.class);
+    private final OutboxCompactor compactor = mock(OutboxCompactor.class);
+    private final InMemoryOutboxMessageSender broker = new InMemoryOutboxMessageSender();
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        OutboxRetryPolicies retryPolicies = OutboxRetryPolicies.of(
+                new OutboxRetryPolicy(Jitter.FULL, Duration.ofSeconds(1), Duration.ofMinutes(1), 3));
+        dispatcher = new OutboxDispatcher(store, compactor, broker, new SimpleMeterRegistry(), retryPolicies,
+                50, 8, false, 0);
+    }
+
+    @Test
+    void publishesWholeClaimAndCompletesItOnce() {
+        List<OutboxMessage> batch = claimed(50, "tenant.registered.v1");
+        when(store.claim(anyInt())).thenReturn(batch, List.of());
+
+        dispatcher.dispatchPending();
+
+        assertThat(broker.delivered()).hasSize(50);
+        assertThat(batch).allMatch(m -> m.getStatus() == OutboxStatus.PROCESSED);
+        verify(store).complete(batch);
+    }
+
+    @Test
+    void nackedMessagesGoBackToPendingWithBackoff() {
+        broker.reject("tenant.suspended.v1");
+        List<OutboxMessage> batch = new ArrayList<>(claimed(3, "tenant.registered.v1"));
+        batch.addAll(claimed(2, "tenant.suspended.v1"));
+        when(store.claim(anyInt())).thenReturn(batch);
+
+        dispatcher.dispatchBatch();
+
+        assertThat(broker.delivered()).hasSize(3);
+        assertThat(batch).filteredOn(m -> m.getEventType().equals("tenant.suspended.v1"))
+                .allSatisfy(m -> {
+                    assertThat(m.getStatus()).isEqualTo(OutboxStatus.PENDING);
+                    assertThat(m.getRetryCount()).isEqualTo(1);
+                    assertThat(m.getLastError()).contains("nack");
+                });
+        verify(store).complete(batch);
+    }
+
+    @Test
+    void supersededMessagesAreCompletedWithoutBeingPublished() {
+        List<OutboxMessage> batch = claimed(4, "tenant.suspended.v1");
+        when(store.claim(anyInt())).thenReturn(batch);
+        doAnswer(inv -> {
+            batch.get(0).markSuperseded(batch.get(3).getId());
+            batch.get(1).markSuperseded(batch.get(3).getId());
+            return 2;
+        }).when(compactor).compact(batch);
+
+        dispatcher.dispatchBatch();
+
+        assertThat(broker.delivered()).containsExactlyInAnyOrder(batch.get(2), batch.get(3));
+        assertThat(batch.subList(0, 2)).allMatch(m -> m.getStatus() == OutboxStatus.SUPERSEDED);
+        verify(store).complete(batch);
+    }
+
+    @Test
+    void emptyClaimDoesNotTouchTheStoreAgain() {
+        when(store.claim(anyInt())).thenReturn(List.of());
+
+        assertThat(dispatcher.dispatchBatch()).isZero();
+        verify(store, never()).complete(any());
+    }
+
+    private static List<OutboxMessage> claimed(int count, String eventType) {
+        List<OutboxMessage> batch = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            OutboxMessage m = OutboxMessage.create("Tenant", UUID.randomUUID().toString(), eventType,
+                    "{}", "zs-test", UUID.randomUUID().toString());
+            m.markProcessing("test-node", Instant.now().plusSeconds(60));
+            batch.add(m);
+        }
+        return batch;
+    }
+}
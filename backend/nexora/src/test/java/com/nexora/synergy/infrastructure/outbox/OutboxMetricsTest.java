@@ -0,0 +1,156 @@
+package com.nexora.synergy.infrastructure.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.nexora.synergy.infrastructure.outbox.OutboxMessage.OutboxStatus;
+import com.nexora.synergy.infrastructure.outbox.OutboxRetryPolicy.Jitter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class OutboxMetricsTest {
+
+    /** Three attempts: the first failure goes back to PENDING, the third dead-letters. */
+    private static final OutboxRetryPolicy POLICY = new OutboxRetryPolicy(Jitter.FULL,
+            Duration.ofSeconds(1), Duration.ofSeconds(1), 3);
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final OutboxMetrics metrics = new OutboxMetrics(jdbcTemplate, registry);
+
+    @Test
+    void publishClaimAndCompleteMoveRowsBetweenStatuses() {
+        metrics.published(4);
+        metrics.claimed(3);
+        assertThat(count(OutboxStatus.PENDING)).isEqualTo(1);
+        assertThat(count(OutboxStatus.PROCESSING)).isEqualTo(3);
+
+        OutboxMessage processed = claimed();
+        processed.markProcessed();
+        OutboxMessage retried = claimed();
+        retried.markFailed("nack", POLICY);
+        OutboxMessage deadLettered = claimed();
+        deadLettered.markFailed("nack", POLICY);
+        deadLettered.markProcessing("test-node", Instant.now());
+        deadLettered.markFailed("nack", POLICY);
+        deadLettered.markProcessing("test-node", Instant.now());
+        deadLettered.markFailed("nack", POLICY);
+        assertThat(deadLettered.getStatus()).isEqualTo(OutboxStatus.DEAD_LETTER);
+
+        metrics.completed(List.of(processed, retried, deadLettered));
+
+        assertThat(count(OutboxStatus.PROCESSING)).isZero();
+        assertThat(count(OutboxStatus.PENDING)).isEqualTo(2);
+        assertThat(count(OutboxStatus.PROCESSED)).isEqualTo(1);
+        assertThat(count(OutboxStatus.DEAD_LETTER)).isEqualTo(1);
+        assertThat(registry.get("outbox.dispatch.lag").timer().count()).isOne();
+        // PROCESSED and DEAD_LETTER are final; the retried message is not
+        assertThat(registry.get("outbox.dispatch.retries").summary().count()).isEqualTo(2);
+        assertThat(registry.get("outbox.dispatch.retries").summary().max()).isEqualTo(3);
+    }
+
+    @Test
+    void leaseExpiryRedriveRestoreAndRemovalMoveTheirCounts() {
+        metrics.published(2);
+        metrics.claimed(2);
+        metrics.leasesExpired(1);
+        assertThat(count(OutboxStatus.PROCESSING)).isEqualTo(1);
+        assertThat(count(OutboxStatus.PENDING)).isEqualTo(1);
+
+        reconcileTo(OutboxStatus.DEAD_LETTER, 2, OutboxStatus.SUPERSEDED, 3);
+        metrics.redriven(2);
+        metrics.restored(1);
+        metrics.removed(OutboxStatus.SUPERSEDED, 2);
+
+        assertThat(count(OutboxStatus.DEAD_LETTER)).isZero();
+        assertThat(count(OutboxStatus.SUPERSEDED)).isZero();
+        assertThat(count(OutboxStatus.PENDING)).isEqualTo(3);
+        assertThat(registry.get("outbox.compaction.restored").counter().count()).isOne();
+    }
+
+    @Test
+    void countsMoveOnlyWhenTheTransactionCommits() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            metrics.published(5);
+            assertThat(count(OutboxStatus.PENDING)).isZero();
+
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            assertThat(count(OutboxStatus.PENDING)).isEqualTo(5);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            metrics.claimed(5);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            assertThat(count(OutboxStatus.PENDING)).isEqualTo(5);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void reconcileResetsEveryStatusAndTheOldestPendingAge() {
+        metrics.published(10);
+        metrics.claimed(2);
+        Instant oldest = Instant.now().minusSeconds(120);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Timestamp.class))).thenReturn(Timestamp.from(oldest));
+
+        reconcileTo(OutboxStatus.PENDING, 4, OutboxStatus.PROCESSED, 7);
+
+        assertThat(count(OutboxStatus.PENDING)).isEqualTo(4);
+        assertThat(count(OutboxStatus.PROCESSED)).isEqualTo(7);
+        assertThat(count(OutboxStatus.PROCESSING)).isZero(); // no row left: reset, not kept
+        assertThat(registry.get("outbox.pending.oldest.age").gauge().value()).isBetween(119.0, 130.0);
+
+        reconcileTo(OutboxStatus.PROCESSED, 7, OutboxStatus.DEAD_LETTER, 0);
+        assertThat(registry.get("outbox.pending.oldest.age").gauge().value()).isZero(); // nothing PENDING
+    }
+
+    /** reconcile() against a GROUP BY returning exactly these two rows. */
+    private void reconcileTo(OutboxStatus first, long firstCount, OutboxStatus second, long secondCount) {
+        doAnswer(inv -> {
+            RowCallbackHandler handler = inv.getArgument(1);
+            ResultSet rs = mock(ResultSet.class);
+            when(rs.getString(1)).thenReturn(first.name(), second.name());
+            when(rs.getLong(2)).thenReturn(firstCount, secondCount);
+            handler.processRow(rs);
+            handler.processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+        metrics.reconcile();
+    }
+
+    private double count(OutboxStatus status) {
+        return registry.get("outbox.messages").tag("status", status.name()).gauge().value();
+    }
+
+    private static OutboxMessage claimed() {
+        OutboxMessage m = OutboxMessage.create("Tenant", UUID.randomUUID().toString(), "tenant.registered.v1",
+                "{}", "zs-test", UUID.randomUUID().toString());
+        m.markProcessing("test-node", Instant.now().plusSeconds(60));
+        return m;
+    }
+}
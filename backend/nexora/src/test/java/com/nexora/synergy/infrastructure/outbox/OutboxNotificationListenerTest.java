@@ -0,0 +1,85 @@
+package com.nexora.synergy.infrastructure.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Runs against a local Postgres: NEXORA_TEST_PG_URL (+ NEXORA_TEST_PG_USER,
+ * NEXORA_TEST_PG_PASSWORD), e.g. jdbc:postgresql://localhost:5432/nexora.
+ */
+@EnabledIfEnvironmentVariable(named = "NEXORA_TEST_PG_URL", matches = ".+")
+class OutboxNotificationListenerTest {
+
+    private final OutboxDispatchLoop loop = mock(OutboxDispatchLoop.class);
+    private final AtomicLong wokenAt = new AtomicLong();
+    private OutboxNotificationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        DataSourceProperties props = new DataSourceProperties();
+        props.setUrl(System.getenv("NEXORA_TEST_PG_URL"));
+        props.setUsername(System.getenv("NEXORA_TEST_PG_USER"));
+        props.setPassword(System.getenv("NEXORA_TEST_PG_PASSWORD"));
+
+        doAnswer(inv -> {
+            wokenAt.set(System.nanoTime());
+            return null;
+        }).when(loop).wakeUp();
+
+        OutboxNotifier notifier = new OutboxNotifier(mock(JdbcTemplate.class), "outbox_pending_test");
+        listener = new OutboxNotificationListener(props, loop, notifier, 500, 100);
+        listener.start();
+        verify(loop, timeout(5000)).listenerConnected(true);
+        verify(loop, timeout(1000)).wakeUp(); // initial catch-up wakeup
+        clearInvocations(loop);
+        wokenAt.set(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        listener.stop();
+    }
+
+    @Test
+    void committedNotifyWakesTheDispatchLoop() throws Exception {
+        try (Connection conn = DriverManager.getConnection(System.getenv("NEXORA_TEST_PG_URL"),
+                System.getenv("NEXORA_TEST_PG_USER"), System.getenv("NEXORA_TEST_PG_PASSWORD"));
+             Statement st = conn.createStatement()) {
+            long sentAt = System.nanoTime();
+            st.execute("NOTIFY outbox_pending_test");
+
+            verify(loop, timeout(1000)).wakeUp();
+            long latencyMs = (wokenAt.get() - sentAt) / 1_000_000;
+            assertThat(latencyMs).isLessThan(100);
+        }
+    }
+
+    @Test
+    void rolledBackNotifyIsNeverDelivered() throws Exception {
+        try (Connection conn = DriverManager.getConnection(System.getenv("NEXORA_TEST_PG_URL"),
+                System.getenv("NEXORA_TEST_PG_USER"), System.getenv("NEXORA_TEST_PG_PASSWORD"));
+             Statement st = conn.createStatement()) {
+            conn.setAutoCommit(false);
+            st.execute("NOTIFY outbox_pending_test");
+            conn.rollback();
+        }
+        Thread.sleep(700);
+        assertThat(wokenAt.get()).isZero();
+    }
+}
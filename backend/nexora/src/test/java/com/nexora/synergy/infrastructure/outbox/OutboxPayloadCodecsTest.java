@@ -0,0 +1,79 @@
+package com.nexora.synergy.infrastructure.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.nexora.synergy.platform.domain.events.TenantRegisteredEvent;
+
+class OutboxPayloadCodecsTest {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final TenantRegisteredEvent event = new TenantRegisteredEvent("7f8a3c1e-0000-4000-8000-000000000001",
+            "greenfield", "Greenfield College", "admin@greenfield.edu", "Ada Admin", "zs-test");
+
+    @Test
+    void smileRoundTripsTheSameTreeAsJsonInFewerBytes() throws Exception {
+        OutboxPayloadCodecs codecs = OutboxPayloadCodecs.jackson(MAPPER, "smile");
+        OutboxPayloadCodec smile = codecs.writer();
+        OutboxPayloadCodec json = codecs.forContentType(OutboxPayloadCodecs.JSON);
+
+        byte[] smileBytes = smile.encode(event);
+        byte[] jsonBytes = json.encode(event);
+
+        assertThat(smile.getContentType()).isEqualTo(OutboxPayloadCodecs.SMILE);
+        assertThat(codecs.forContentType(OutboxPayloadCodecs.SMILE).readTree(smileBytes))
+                .isEqualTo(json.readTree(jsonBytes));
+        assertThat(smileBytes.length).isLessThan(jsonBytes.length);
+    }
+
+    @Test
+    void rowsWithoutContentTypeAreReadAsJson() throws Exception {
+        OutboxPayloadCodecs codecs = OutboxPayloadCodecs.jackson(MAPPER, "smile");
+        byte[] legacyRow = "{\"subdomain\":\"greenfield\"}".getBytes(StandardCharsets.UTF_8);
+
+        JsonNode tree = codecs.forContentType(null).readTree(legacyRow);
+
+        assertThat(tree.path("subdomain").asText()).isEqualTo("greenfield");
+    }
+
+    @Test
+    void smileKeepsTheJsonMapperFeatures() throws Exception {
+        OutboxPayloadCodecs codecs = OutboxPayloadCodecs.jackson(MAPPER, "smile");
+
+        JsonNode tree = codecs.writer().readTree(codecs.writer().encode(event));
+
+        // WRITE_DATES_AS_TIMESTAMPS disabled and JavaTimeModule registered, as on the JSON mapper
+        assertThat(tree.path("occurredAt").isTextual()).isTrue();
+        assertThat(tree).isEqualTo(MAPPER.readTree(MAPPER.writeValueAsBytes(event)));
+    }
+
+    @Test
+    void jsonWriterStillReadsSmileRows() throws Exception {
+        byte[] smileRow = OutboxPayloadCodecs.jackson(MAPPER, "smile").writer().encode(event);
+
+        OutboxPayloadCodecs codecs = OutboxPayloadCodecs.jackson(MAPPER, "json");
+
+        assertThat(codecs.writer().getContentType()).isEqualTo(OutboxPayloadCodecs.JSON);
+        assertThat(codecs.forContentType(OutboxPayloadCodecs.SMILE).readTree(smileRow).path("subdomain").asText())
+                .isEqualTo("greenfield");
+    }
+
+    @Test
+    void rejectsUnknownFormats() {
+        assertThatIllegalArgumentException().isThrownBy(() -> OutboxPayloadCodecs.jackson(MAPPER, "cbor"));
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> OutboxPayloadCodecs.jackson(MAPPER, "json").forContentType("application/x-protobuf"));
+    }
+}
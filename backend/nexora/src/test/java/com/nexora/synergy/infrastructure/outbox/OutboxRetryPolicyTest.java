@@ -0,0 +1,86 @@
+package com.nexora.synergy.infrastructure.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+import com.nexora.synergy.infrastructure.outbox.OutboxRetryPolicy.Jitter;
+
+class OutboxRetryPolicyTest {
+
+    private static final int MESSAGES = 10_000;
+    private static final long OUTAGE_MS = 60_000;
+    private static final long BUCKET_MS = 100;
+
+    @Test
+    void unjitteredPolicyKeepsTheLegacyPowerOfTwoSchedule() {
+        OutboxRetryPolicy policy = policy(Jitter.NONE);
+
+        assertThat(policy.nextDelay(1, new SplittableRandom(1))).isEqualTo(Duration.ofSeconds(2));
+        assertThat(policy.nextDelay(4, new SplittableRandom(1))).isEqualTo(Duration.ofSeconds(16));
+        assertThat(policy.nextDelay(40, new SplittableRandom(1))).isEqualTo(Duration.ofMinutes(5));
+    }
+
+    @Test
+    void jitteredDelaysStayWithinTheirBounds() {
+        SplittableRandom random = new SplittableRandom(7);
+        for (int retry = 1; retry <= 20; retry++) {
+            long cap = Math.min(300_000, 1000L << retry);
+            for (int i = 0; i < 1000; i++) {
+                assertThat(policy(Jitter.FULL).nextDelay(retry, random).toMillis()).isBetween(0L, cap);
+                assertThat(policy(Jitter.DECORRELATED).nextDelay(retry, random).toMillis()).isBetween(1000L, 300_000L);
+            }
+        }
+    }
+
+    /**
+     * Every message fails at t=0 and keeps failing until a 60 s broker outage
+     * ends. Without jitter each retry round is a synchronized wave of all
+     * messages — including the first one after recovery.
+     */
+    @Test
+    void jitterFlattensTheRetryPeakAfterAnOutage() {
+        Load none = simulateOutage(policy(Jitter.NONE));
+        Load full = simulateOutage(policy(Jitter.FULL));
+        Load decorrelated = simulateOutage(policy(Jitter.DECORRELATED));
+
+        assertThat(none.peak()).isEqualTo(MESSAGES);
+        assertThat(none.recoveryPeak()).isEqualTo(MESSAGES);
+
+        for (Load jittered : new Load[] {full, decorrelated}) {
+            assertThat(jittered.peak()).isLessThan(none.peak() / 4);
+            assertThat(jittered.recoveryPeak()).isLessThan(none.recoveryPeak() / 20);
+        }
+    }
+
+    private static Load simulateOutage(OutboxRetryPolicy policy) {
+        SplittableRandom random = new SplittableRandom(42);
+        TreeMap<Long, Integer> attemptsPerBucket = new TreeMap<>();
+        for (int m = 0; m < MESSAGES; m++) {
+            long now = 0;
+            int retryCount = 0;
+            while (now < OUTAGE_MS && retryCount < policy.getMaxRetries()) {
+                retryCount++;
+                now += policy.nextDelay(retryCount, random).toMillis();
+                attemptsPerBucket.merge(now / BUCKET_MS, 1, Integer::sum);
+            }
+        }
+        int peak = attemptsPerBucket.values().stream().max(Integer::compare).orElse(0);
+        int recoveryPeak = attemptsPerBucket.tailMap(OUTAGE_MS / BUCKET_MS).values().stream()
+                .max(Integer::compare).orElse(0);
+        return new Load(peak, recoveryPeak);
+    }
+
+    private static OutboxRetryPolicy policy(Jitter jitter) {
+        return new OutboxRetryPolicy(jitter, Duration.ofSeconds(1), Duration.ofMinutes(5), 10);
+    }
+
+    /** Peak retry attempts per 100 ms, overall and once the broker is back. */
+    private record Load(int peak, int recoveryPeak) {
+
+    }
+}
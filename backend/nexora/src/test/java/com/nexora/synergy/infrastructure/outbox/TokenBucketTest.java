@@ -0,0 +1,42 @@
+package com.nexora.synergy.infrastructure.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+    @Test
+    void burstUpToCapacityDoesNotWait() throws Exception {
+        TokenBucket bucket = new TokenBucket(1, 10);
+
+        assertThat(bucket.acquire(4)).isZero();
+        assertThat(bucket.acquire(6)).isZero();
+    }
+
+    @Test
+    void emptyBucketWaitsForTheRefill() throws Exception {
+        TokenBucket bucket = new TokenBucket(1_000, 10);
+        bucket.acquire(10);
+
+        long waited = bucket.acquire(10); // 10 tokens at 1 per millisecond
+
+        assertThat(waited).isBetween(TimeUnit.MILLISECONDS.toNanos(5), TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    void requestsLargerThanCapacityTakeOneFullBucket() throws Exception {
+        TokenBucket bucket = new TokenBucket(1, 5);
+
+        assertThat(bucket.acquire(50)).isZero(); // would never be satisfiable otherwise
+    }
+
+    @Test
+    void rejectsNonPositiveRateOrCapacity() {
+        assertThatThrownBy(() -> new TokenBucket(0, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucket(10, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,23 @@
+package com.nexora.synergy.infrastructure.provisioning;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class ConnectionPoolBudgetTest {
+
+    @Test
+    void defaultsLeaveConnectionsForRequests() {
+        assertThatCode(() -> new ConnectionPoolBudget(10, 4, 4)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void workersThatCouldTakeThePoolFailStartup() {
+        assertThatThrownBy(() -> new ConnectionPoolBudget(10, 4, 8))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("maximum-pool-size (10)");
+        assertThatThrownBy(() -> new ConnectionPoolBudget(8, 4, 4))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,74 @@
+package com.nexora.synergy.infrastructure.provisioning;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class FlywayTenantSchemaProvisionerTest {
+
+    @TempDir
+    Path migrations;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void migrationTimerIsNotTaggedPerSchema() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenThrow(new SQLException("connection refused"));
+        FlywayTenantSchemaProvisioner provisioner = new FlywayTenantSchemaProvisioner(dataSource, registry,
+                new String[] {"classpath:db/migration/tenant"}, 120, 30);
+
+        assertThatThrownBy(() -> provisioner.provision("tenant_greenfield")).isInstanceOf(RuntimeException.class);
+
+        Timer timer = registry.get("tenant.schema.migration").tag("mode", "provision").tag("outcome", "failure")
+                .timer();
+        assertThat(timer.count()).isOne();
+        assertThat(timer.getId().getTag("schema")).isNull();
+    }
+
+    /**
+     * Needs NEXORA_TEST_PG_URL (+ NEXORA_TEST_PG_USER, NEXORA_TEST_PG_PASSWORD);
+     * the connection stands in for a pooled one, so the reset is observable.
+     */
+    @Test
+    @EnabledIfEnvironmentVariable(named = "NEXORA_TEST_PG_URL", matches = ".+")
+    void statementPastTheTimeoutIsCancelledByTheDatabaseAndTheConnectionReset() throws Exception {
+        Files.writeString(migrations.resolve("V1__slow.sql"), "SELECT pg_sleep(5);\n");
+        String schema = "prov_test_" + UUID.randomUUID().toString().substring(0, 8);
+        SingleConnectionDataSource pooled = new SingleConnectionDataSource(DriverManager.getConnection(
+                System.getenv("NEXORA_TEST_PG_URL"), System.getenv("NEXORA_TEST_PG_USER"),
+                System.getenv("NEXORA_TEST_PG_PASSWORD")), true);
+        JdbcTemplate jdbc = new JdbcTemplate(pooled);
+        FlywayTenantSchemaProvisioner provisioner = new FlywayTenantSchemaProvisioner(pooled, registry,
+                new String[] {"filesystem:" + migrations}, 1, 1);
+        try {
+            long started = System.nanoTime();
+            assertThatThrownBy(() -> provisioner.provision(schema)).hasStackTraceContaining("statement timeout");
+            assertThat(System.nanoTime() - started).isLessThan(4_000_000_000L);
+
+            assertThat(jdbc.queryForObject("SHOW statement_timeout", String.class)).isEqualTo("0");
+            assertThat(jdbc.queryForObject("SHOW lock_timeout", String.class)).isEqualTo("0");
+        } finally {
+            jdbc.execute("DROP SCHEMA IF EXISTS " + schema + " CASCADE");
+            pooled.destroy();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.nexora.synergy.infrastructure.provisioning;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.nexora.synergy.platform.application.tenant.provisioning.TenantSchemaProvisioner;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Provisioning time vs. number of migrations: Flyway per tenant against
+ * template cloning, on N synthetic migrations (one table + one FK + one seed
+ * row each). Prints one line per N; run explicitly:
+ *
+ * mvn test -Dtest.excludedGroups= -Dtest=TenantProvisioningBenchmarkTest
+ *
+ * Needs NEXORA_TEST_PG_URL (+ NEXORA_TEST_PG_USER, NEXORA_TEST_PG_PASSWORD).
+ */
+@Tag("benchmark")
+@EnabledIfEnvironmentVariable(named = "NEXORA_TEST_PG_URL", matches = ".+")
+class TenantProvisioningBenchmarkTest {
+
+    private static final int TENANTS = 5;
+
+    @TempDir
+    Path migrations;
+
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(System.getenv("NEXORA_TEST_PG_URL"),
+                System.getenv("NEXORA_TEST_PG_USER"), System.getenv("NEXORA_TEST_PG_PASSWORD"));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dropSchemas();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 50, 200})
+    void provisioningTimeByMigrationCount(int migrationCount) throws IOException {
+        writeMigrations(migrationCount);
+        String[] locations = {"filesystem:" + migrations};
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        FlywayTenantSchemaProvisioner flyway = new FlywayTenantSchemaProvisioner(
+                jdbcTemplate.getDataSource(), registry, locations, 120, 30);
+        TemplateCloningTenantSchemaProvisioner cloning = new TemplateCloningTenantSchemaProvisioner(
+                jdbcTemplate, transactionManager, flyway, registry, locations);
+        dropSchemas();
+        cloning.ensureTemplate();
+
+        long flywayNanos = time(flyway, "bench_flyway_");
+        long cloneNanos = time(cloning, "bench_clone_");
+
+        System.out.printf("migrations=%d tenants=%d flywayAvgMs=%.1f cloneAvgMs=%.1f%n", migrationCount, TENANTS,
+                flywayNanos / 1e6 / TENANTS, cloneNanos / 1e6 / TENANTS);
+
+        for (String schema : new String[] {"bench_flyway_0", "bench_clone_0"}) {
+            assertThat(countTables(schema)).isEqualTo(migrationCount + 1); // + flyway_schema_history
+            // versioned rows only: createSchemas also records a "<< Flyway Schema Creation >>" row
+            assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM " + schema
+                    + ".flyway_schema_history WHERE success AND version IS NOT NULL", Integer.class))
+                    .isEqualTo(migrationCount);
+        }
+        assertThat(flyway.migrate("bench_clone_0")).isZero(); // clone is recognised as up to date
+    }
+
+    private long time(TenantSchemaProvisioner provisioner, String prefix) {
+        long started = System.nanoTime();
+        for (int i = 0; i < TENANTS; i++) {
+            provisioner.provision(prefix + i);
+        }
+        return System.nanoTime() - started;
+    }
+
+    private void writeMigrations(int count) throws IOException {
+        for (int v = 1; v <= count; v++) {
+            String sql = "CREATE TABLE t" + v + " (id BIGSERIAL PRIMARY KEY, name VARCHAR(100) NOT NULL"
+                    + (v > 1 ? ", parent_id BIGINT REFERENCES t" + (v - 1) + "(id)" : "") + ");\n"
+                    + "CREATE INDEX idx_t" + v + "_name ON t" + v + " (name);\n"
+                    + "INSERT INTO t" + v + " (name) VALUES ('seed');\n";
+            Files.writeString(migrations.resolve("V" + v + "__t" + v + ".sql"), sql);
+        }
+    }
+
+    private int countTables(String schema) {
+        return jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM information_schema.tables WHERE table_schema = ?", Integer.class, schema);
+    }
+
+    private void dropSchemas() {
+        jdbcTemplate.queryForList("""
+                SELECT nspname FROM pg_namespace
+                WHERE nspname LIKE 'bench\\_%' OR nspname = 'tenant_template'
+                """, String.class)
+                .forEach(s -> jdbcTemplate.execute("DROP SCHEMA " + s + " CASCADE"));
+    }
+}
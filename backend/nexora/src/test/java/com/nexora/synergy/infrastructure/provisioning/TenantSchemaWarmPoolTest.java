@@ -0,0 +1,151 @@
+package com.nexora.synergy.infrastructure.provisioning;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * TenantSchemaWarmPool against a local Postgres: NEXORA_TEST_PG_URL (+
+ * NEXORA_TEST_PG_USER, NEXORA_TEST_PG_PASSWORD). Pooled schemas are built by
+ * a stub (an empty CREATE SCHEMA), not Flyway. Empties the pool table and
+ * drops the schemas it creates — run against a scratch database.
+ */
+@EnabledIfEnvironmentVariable(named = "NEXORA_TEST_PG_URL", matches = ".+")
+class TenantSchemaWarmPoolTest {
+
+    private static final String[] LOCATIONS = {"classpath:db/migration/tenant"};
+
+    private final List<String> built = new ArrayList<>();
+    private JdbcTemplate jdbc;
+    private DataSourceTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(System.getenv("NEXORA_TEST_PG_URL"),
+                System.getenv("NEXORA_TEST_PG_USER"), System.getenv("NEXORA_TEST_PG_PASSWORD"));
+        Flyway.configure().dataSource(dataSource).schemas("platform").createSchemas(true)
+                .locations("classpath:db/migration/platform").load().migrate();
+        jdbc = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        cleanUp();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbc.update("DELETE FROM platform.tenant_schema_pool");
+        jdbc.queryForList("SELECT nspname FROM pg_namespace WHERE nspname LIKE 'tenant\\_pool\\_%'"
+                + " OR nspname LIKE 'warm\\_test\\_%'", String.class)
+                .forEach(s -> jdbc.execute("DROP SCHEMA IF EXISTS \"" + s + "\" CASCADE"));
+    }
+
+    @Test
+    void refillBuildsUpToTheTargetSizeInBatches() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TenantSchemaWarmPool pool = pool(registry, 3, 2);
+
+        pool.refill();
+        assertThat(poolRows()).isEqualTo(2);
+        pool.refill();
+        pool.refill();
+
+        assertThat(poolRows()).isEqualTo(3);
+        assertThat(built).hasSize(3);
+        assertThat(available(registry)).isEqualTo(3);
+    }
+
+    @Test
+    void claimRenamesAPooledSchemaAndAMissBuildsOnDemand() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TenantSchemaWarmPool pool = pool(registry, 1, 1);
+        pool.refill();
+        String pooled = built.get(0);
+
+        pool.provision("warm_test_hit");
+        pool.provision("warm_test_miss");
+
+        assertThat(schemaExists("warm_test_hit")).isTrue();
+        assertThat(schemaExists(pooled)).isFalse();
+        assertThat(built).containsExactly(pooled, "warm_test_miss");
+        assertThat(available(registry)).isZero();
+        assertThat(registry.timer("tenant.schema.pool.claim", "outcome", "hit").count()).isOne();
+        assertThat(registry.timer("tenant.schema.pool.claim", "outcome", "miss").count()).isOne();
+    }
+
+    @Test
+    void nodesThatDoNotRefillStillReportTheSharedPool() {
+        SimpleMeterRegistry refillingNode = new SimpleMeterRegistry();
+        SimpleMeterRegistry otherNode = new SimpleMeterRegistry();
+        TenantSchemaWarmPool refilling = pool(refillingNode, 2, 2);
+        TenantSchemaWarmPool other = pool(otherNode, 2, 2);
+        refilling.refill();
+
+        other.provision("warm_test_a"); // claimed on the node that did not refill
+        holdingTheRefillLock(other::refill);
+
+        assertThat(poolRows()).isOne();
+        assertThat(available(otherNode)).isEqualTo(1);
+        refilling.refill();
+        assertThat(available(refillingNode)).isEqualTo(2);
+    }
+
+    @Test
+    void schemasBuiltFromOtherMigrationsAreDropped() {
+        jdbc.execute("CREATE SCHEMA tenant_pool_stale");
+        jdbc.update("INSERT INTO platform.tenant_schema_pool (schema_name, checksum) VALUES (?, ?)",
+                "tenant_pool_stale", "0".repeat(32));
+
+        pool(new SimpleMeterRegistry(), 1, 1).refill();
+
+        assertThat(schemaExists("tenant_pool_stale")).isFalse();
+        assertThat(poolRows()).isOne();
+    }
+
+    private TenantSchemaWarmPool pool(SimpleMeterRegistry registry, int size, int refillBatch) {
+        return new TenantSchemaWarmPool(jdbc, transactionManager, schema -> {
+            jdbc.execute("CREATE SCHEMA IF NOT EXISTS \"" + schema + "\"");
+            built.add(schema);
+        }, registry, LOCATIONS, size, refillBatch);
+    }
+
+    private void holdingTheRefillLock(Runnable action) {
+        jdbc.execute((ConnectionCallback<Void>) connection -> {
+            JdbcTemplate session = new JdbcTemplate(
+                    new SingleConnectionDataSource(connection, true));
+            session.queryForObject("SELECT pg_advisory_lock(hashtext('platform.tenant_schema_pool'))", Object.class);
+            try {
+                action.run();
+            } finally {
+                session.queryForObject("SELECT pg_advisory_unlock(hashtext('platform.tenant_schema_pool'))",
+                        Object.class);
+            }
+            return null;
+        });
+    }
+
+    private int poolRows() {
+        return jdbc.queryForObject("SELECT count(*) FROM platform.tenant_schema_pool", Integer.class);
+    }
+
+    private boolean schemaExists(String schema) {
+        return Boolean.TRUE.equals(jdbc.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_namespace WHERE nspname = ?)", Boolean.class, schema));
+    }
+
+    private static double available(SimpleMeterRegistry registry) {
+        return registry.get("tenant.schema.pool.available").gauge().value();
+    }
+}
@@ -0,0 +1,90 @@
+package com.nexora.synergy.infrastructure.tenancy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.nexora.synergy.platform.application.tenant.service.TenantQueryService;
+import com.nexora.synergy.platform.domain.model.TenantId;
+import com.nexora.synergy.platform.domain.model.TenantRoute;
+import com.nexora.synergy.platform.domain.model.TenantStatus;
+
+import jakarta.servlet.http.HttpServlet;
+
+class TenantResolutionFilterTest {
+
+    private final TenantQueryService tenantQueryService = mock(TenantQueryService.class);
+    private final TenantResolutionFilter filter = new TenantResolutionFilter(tenantQueryService, ".ZappSchool.com");
+
+    @Test
+    void subdomainIsTheLabelLeftOfTheSuffix() {
+        assertThat(filter.extractSubdomain("harvard.zappschool.com")).isEqualTo("harvard");
+        assertThat(filter.extractSubdomain("Harvard.ZAPPSCHOOL.com")).isEqualTo("harvard");
+    }
+
+    @Test
+    void apexNestedAndForeignHostsHaveNoSubdomain() {
+        assertThat(filter.extractSubdomain(".zappschool.com")).isNull();
+        assertThat(filter.extractSubdomain("zappschool.com")).isNull();
+        assertThat(filter.extractSubdomain("a.b.zappschool.com")).isNull();
+        assertThat(filter.extractSubdomain("harvard.example.com")).isNull();
+        assertThat(filter.extractSubdomain("harvardzappschool.com")).isNull();
+        assertThat(filter.extractSubdomain(null)).isNull();
+    }
+
+    @Test
+    void activeTenantIsSetForTheRequestAndClearedAfter() throws Exception {
+        when(tenantQueryService.findRoute("harvard")).thenReturn(Optional.of(route(TenantStatus.ACTIVE)));
+        AtomicReference<String> schemaInRequest = new AtomicReference<>();
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() { }, (req, res, next) ->
+                schemaInRequest.set(TenantContext.currentSchema()));
+
+        filter.doFilter(request("harvard.zappschool.com"), new MockHttpServletResponse(), chain);
+
+        assertThat(schemaInRequest).hasValue("tenant_harvard");
+        assertThat(TenantContext.currentSchema()).isNull();
+    }
+
+    @Test
+    void unknownSubdomainIs404AndInactiveTenantIs403() throws Exception {
+        when(tenantQueryService.findRoute("nobody")).thenReturn(Optional.empty());
+        when(tenantQueryService.findRoute("harvard")).thenReturn(Optional.of(route(TenantStatus.SUSPENDED)));
+
+        MockHttpServletResponse unknown = new MockHttpServletResponse();
+        filter.doFilter(request("nobody.zappschool.com"), unknown, new MockFilterChain());
+        MockHttpServletResponse inactive = new MockHttpServletResponse();
+        filter.doFilter(request("harvard.zappschool.com"), inactive, new MockFilterChain());
+
+        assertThat(unknown.getStatus()).isEqualTo(404);
+        assertThat(inactive.getStatus()).isEqualTo(403);
+    }
+
+    @Test
+    void platformHostSkipsTheLookup() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request("zappschool.com"), new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        verifyNoInteractions(tenantQueryService);
+    }
+
+    private static MockHttpServletRequest request(String host) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/students");
+        request.setServerName(host);
+        return request;
+    }
+
+    private static TenantRoute route(TenantStatus status) {
+        return new TenantRoute(TenantId.generate(), "harvard", status, "tenant_harvard");
+    }
+}
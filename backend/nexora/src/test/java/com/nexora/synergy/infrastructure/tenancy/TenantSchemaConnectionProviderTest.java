@@ -0,0 +1,73 @@
+package com.nexora.synergy.infrastructure.tenancy;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+class TenantSchemaConnectionProviderTest {
+
+    private final DataSource dataSource = mock(DataSource.class);
+    private final Connection connection = mock(Connection.class);
+    private final Statement statement = mock(Statement.class);
+    private final TenantSchemaConnectionProvider provider = new TenantSchemaConnectionProvider(dataSource, "public");
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.unwrap(Connection.class)).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.getAutoCommit()).thenReturn(true);
+    }
+
+    @Test
+    void releaseResetsTheSearchPathBeforeTheConnectionGoesBack() throws SQLException {
+        provider.releaseConnection("tenant_greenfield", provider.getConnection("tenant_greenfield"));
+
+        InOrder inOrder = inOrder(statement, connection);
+        inOrder.verify(statement).execute("SET search_path TO \"tenant_greenfield\"");
+        inOrder.verify(statement).execute("SET search_path TO \"public\"");
+        inOrder.verify(connection).close();
+    }
+
+    @Test
+    void connectionAlreadyOnTheSchemaSkipsTheSet() throws SQLException {
+        provider.releaseConnection("tenant_greenfield", provider.getConnection("tenant_greenfield"));
+        provider.releaseConnection("public", provider.getConnection("public"));
+
+        // one SET each way for the tenant request, none for the platform one
+        verify(statement).execute("SET search_path TO \"public\"");
+    }
+
+    @Test
+    void setInsideATransactionIsNotRemembered() throws SQLException {
+        when(connection.getAutoCommit()).thenReturn(false); // a rollback could undo it
+        provider.getConnection("public");
+        provider.getConnection("public");
+
+        verify(statement, times(2)).execute("SET search_path TO \"public\"");
+    }
+
+    @Test
+    void invalidSchemaNameIsRejectedAndTheConnectionClosed() throws SQLException {
+        assertThatThrownBy(() -> provider.getConnection("x\"; DROP SCHEMA platform; --"))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(statement, never()).execute(anyString());
+        verify(connection).close();
+    }
+}
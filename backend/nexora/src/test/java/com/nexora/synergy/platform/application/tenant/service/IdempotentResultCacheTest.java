@@ -0,0 +1,58 @@
+package com.nexora.synergy.platform.application.tenant.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.nexora.synergy.platform.application.tenant.command.RegisterTenantResult;
+import com.nexora.synergy.platform.domain.model.TenantStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class IdempotentResultCacheTest {
+
+    private final IdempotentResultCache cache = new IdempotentResultCache(new SimpleMeterRegistry(), 100);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void servesCompletedResultUntilExpiresAt() {
+        cache.putCompleted("key-1", result(), Instant.now().plusSeconds(60));
+        cache.putCompleted("key-2", result(), Instant.now().minusSeconds(1));
+
+        assertThat(cache.get("key-1")).contains(result());
+        assertThat(cache.get("key-2")).isEmpty();
+    }
+
+    @Test
+    void cachesOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        cache.putCompleted("committed", result(), Instant.now().plusSeconds(60));
+        assertThat(cache.get("committed")).isEmpty();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.putCompleted("rolled-back", result(), Instant.now().plusSeconds(60));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(cache.get("committed")).contains(result());
+        assertThat(cache.get("rolled-back")).isEmpty();
+    }
+
+    private static RegisterTenantResult result() {
+        return new RegisterTenantResult("7f8a3c1e-0000-4000-8000-000000000001", "greenfield", "Greenfield College",
+                "greenfield.zappschool.com", TenantStatus.PENDING, Instant.parse("2026-01-01T00:00:00Z"));
+    }
+}
@@ -0,0 +1,136 @@
+package com.nexora.synergy.platform.application.tenant.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nexora.synergy.exception.IdempotencyConflictException;
+import com.nexora.synergy.exception.TenantDomainAlreadyExistsException;
+import com.nexora.synergy.infrastructure.outbox.IdempotencyClaim;
+import com.nexora.synergy.infrastructure.outbox.IdempotencyRepository;
+import com.nexora.synergy.infrastructure.outbox.OutboxEventPublisher;
+import com.nexora.synergy.platform.application.tenant.command.RegisterTenantCommand;
+import com.nexora.synergy.platform.application.tenant.command.RegisterTenantResult;
+import com.nexora.synergy.platform.domain.model.TenantFactory;
+import com.nexora.synergy.platform.domain.model.TenantStatus;
+import com.nexora.synergy.platform.domain.repository.TenantRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * The idempotency branches of execute(): the key is claimed, replayed from a
+ * COMPLETE record, still IN_PROGRESS, or lost to a concurrent claim.
+ */
+class RegisterTenantApplicationServiceTest {
+
+    private static final String KEY = "key-1";
+
+    private final TenantRepository tenantRepository = mock(TenantRepository.class);
+    private final IdempotencyRepository idempotencyRepository = mock(IdempotencyRepository.class);
+    private final OutboxEventPublisher outboxEventPublisher = mock(OutboxEventPublisher.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private IdempotentResultCache resultCache;
+    private RegisterTenantApplicationService service;
+
+    @BeforeEach
+    void setUp() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        resultCache = new IdempotentResultCache(meterRegistry, 100);
+        service = new RegisterTenantApplicationService(mock(TenantFactory.class), tenantRepository,
+                outboxEventPublisher, idempotencyRepository, meterRegistry, objectMapper, resultCache,
+                transactionManager);
+    }
+
+    @Test
+    void claimedKeyGoesOnToRegister() {
+        when(idempotencyRepository.claim(any(), eq(KEY), eq("REGISTER_TENANT"), any()))
+                .thenReturn(Optional.of(claim("IN_PROGRESS", null, true)));
+        when(tenantRepository.existsByDomain(any())).thenReturn(true);
+
+        assertThatThrownBy(() -> service.execute(command()))
+                .isInstanceOf(TenantDomainAlreadyExistsException.class);
+        verify(tenantRepository).existsByDomain(any());
+        verify(idempotencyRepository, never()).complete(anyString(), anyString());
+    }
+
+    @Test
+    void completedKeyIsReplayedWithoutRegisteringAgain() throws Exception {
+        RegisterTenantResult earlier = new RegisterTenantResult("t-1", "greenfield", "Greenfield College",
+                "greenfield.zappschool.com", TenantStatus.PENDING, Instant.now().truncatedTo(ChronoUnit.MILLIS));
+        when(idempotencyRepository.claim(any(), eq(KEY), eq("REGISTER_TENANT"), any()))
+                .thenReturn(Optional.of(claim("COMPLETE", objectMapper.writeValueAsString(earlier), false)));
+
+        assertThat(service.execute(command())).isEqualTo(earlier);
+
+        verifyNoInteractions(tenantRepository, outboxEventPublisher);
+        assertThat(resultCache.get(KEY)).contains(earlier); // next replay skips the database
+        assertThat(meterRegistry.counter("tenant.registration.idempotent").count()).isEqualTo(1);
+    }
+
+    @Test
+    void keyStillInProgressIsAConflict() {
+        when(idempotencyRepository.claim(any(), eq(KEY), eq("REGISTER_TENANT"), any()))
+                .thenReturn(Optional.of(claim("IN_PROGRESS", null, false)));
+
+        assertThatThrownBy(() -> service.execute(command())).isInstanceOf(IdempotencyConflictException.class);
+        verifyNoInteractions(tenantRepository);
+    }
+
+    @Test
+    void claimLostToAnUncommittedRequestIsAConflict() {
+        when(idempotencyRepository.claim(any(), eq(KEY), eq("REGISTER_TENANT"), any()))
+                .thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.execute(command())).isInstanceOf(IdempotencyConflictException.class);
+        verifyNoInteractions(tenantRepository);
+    }
+
+    private static RegisterTenantCommand command() {
+        return new RegisterTenantCommand("Greenfield College", "greenfield", "Ada Admin", "admin@greenfield.edu",
+                null, KEY);
+    }
+
+    private static IdempotencyClaim claim(String status, String responsePayload, boolean claimed) {
+        long expiresAt = Instant.now().plusSeconds(3600).toEpochMilli();
+        return new IdempotencyClaim() {
+            @Override
+            public String getStatus() {
+                return status;
+            }
+
+            @Override
+            public String getResponsePayload() {
+                return responsePayload;
+            }
+
+            @Override
+            public long getExpiresAtEpochMs() {
+                return expiresAt;
+            }
+
+            @Override
+            public boolean isClaimed() {
+                return claimed;
+            }
+        };
+    }
+}
@@ -0,0 +1,153 @@
+package com.nexora.synergy.platform.application.tenant.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.nexora.synergy.infrastructure.outbox.OutboxEventPublisher;
+import com.nexora.synergy.platform.application.tenant.provisioning.TenantSchemaProvisioner;
+import com.nexora.synergy.platform.application.tenant.service.TenantProvisioningService.SchemaWorkStillRunningException;
+import com.nexora.synergy.platform.domain.model.ContactInfo;
+import com.nexora.synergy.platform.domain.model.Tenant;
+import com.nexora.synergy.platform.domain.model.TenantDomain;
+import com.nexora.synergy.platform.domain.model.TenantId;
+import com.nexora.synergy.platform.domain.model.TenantStatus;
+import com.nexora.synergy.platform.domain.repository.TenantRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * createSchema() outcomes: built, failed, timed out (FAILED only once the
+ * work has stopped), still running after the timeout, and not PROVISIONING.
+ */
+class TenantProvisioningServiceTest {
+
+    private static final String SCHEMA = "tenant_greenfield";
+
+    private final TenantRepository tenantRepository = mock(TenantRepository.class);
+    private final TenantSchemaProvisioner schemaProvisioner = mock(TenantSchemaProvisioner.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private Tenant tenant;
+    private TenantProvisioningService service;
+
+    @BeforeEach
+    void setUp() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        tenant = tenant(TenantStatus.PROVISIONING);
+        when(tenantRepository.findById(tenant.getId())).thenAnswer(inv -> Optional.of(tenant));
+        when(tenantRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        service = new TenantProvisioningService(tenantRepository, mock(OutboxEventPublisher.class),
+                schemaProvisioner, transactionManager, meterRegistry, 2, 1, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void builtSchemaActivatesTheTenant() {
+        service.createSchema(tenant.getId().toString());
+
+        verify(schemaProvisioner).provision(SCHEMA);
+        assertThat(tenant.getStatus()).isEqualTo(TenantStatus.ACTIVE);
+        assertThat(meterRegistry.counter("tenant.provisioning.activated").count()).isOne();
+    }
+
+    @Test
+    void failedSchemaMarksTheTenantFailed() {
+        doThrow(new IllegalStateException("migration V3 failed")).when(schemaProvisioner).provision(SCHEMA);
+
+        service.createSchema(tenant.getId().toString());
+
+        assertThat(tenant.getStatus()).isEqualTo(TenantStatus.FAILED);
+        assertThat(meterRegistry.counter("tenant.provisioning.failed").count()).isOne();
+    }
+
+    @Test
+    void timedOutWorkIsMarkedFailedOnlyOnceItHasStopped() {
+        AtomicBoolean stopped = new AtomicBoolean();
+        doAnswer(inv -> {
+            busyIgnoringInterrupts(1_500); // a statement running past the cancel
+            stopped.set(true);
+            return null;
+        }).when(schemaProvisioner).provision(SCHEMA);
+        AtomicBoolean stoppedWhenFailed = new AtomicBoolean();
+        when(tenantRepository.save(any())).thenAnswer(inv -> {
+            stoppedWhenFailed.set(stopped.get());
+            return inv.getArgument(0);
+        });
+
+        service.createSchema(tenant.getId().toString());
+
+        assertThat(tenant.getStatus()).isEqualTo(TenantStatus.FAILED);
+        assertThat(stoppedWhenFailed).isTrue();
+    }
+
+    @Test
+    void workStillRunningAfterTheTimeoutLeavesTheTenantProvisioning() {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(inv -> {
+            while (release.getCount() > 0) {
+                try {
+                    release.await();
+                } catch (InterruptedException ignored) {
+                    // like Flyway: an interrupt does not stop the migration
+                }
+            }
+            return null;
+        }).when(schemaProvisioner).provision(SCHEMA);
+
+        try {
+            assertThatThrownBy(() -> service.createSchema(tenant.getId().toString()))
+                    .isInstanceOf(SchemaWorkStillRunningException.class);
+            assertThat(tenant.getStatus()).isEqualTo(TenantStatus.PROVISIONING);
+            verify(tenantRepository, never()).save(any());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void tenantNoLongerProvisioningIsSkipped() {
+        tenant = tenant(TenantStatus.ACTIVE);
+        when(tenantRepository.findById(tenant.getId())).thenAnswer(inv -> Optional.of(tenant));
+
+        service.createSchema(tenant.getId().toString());
+
+        verifyNoInteractions(schemaProvisioner);
+        verify(tenantRepository, never()).save(any());
+    }
+
+    private static Tenant tenant(TenantStatus status) {
+        return Tenant.reconstitute(TenantId.generate(), TenantDomain.of("greenfield"), "Greenfield College",
+                ContactInfo.of("Ada Admin", "ada@greenfield.edu", null), status, Instant.now(), null, SCHEMA,
+                "corr-1");
+    }
+
+    private static void busyIgnoringInterrupts(long millis) {
+        long until = System.nanoTime() + millis * 1_000_000;
+        while (System.nanoTime() < until) {
+            Thread.onSpinWait();
+        }
+    }
+}
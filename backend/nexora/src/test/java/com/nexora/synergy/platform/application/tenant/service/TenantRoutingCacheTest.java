@@ -0,0 +1,117 @@
+package com.nexora.synergy.platform.application.tenant.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nexora.synergy.infrastructure.outbox.OutboxPayloadCodecs;
+import com.nexora.synergy.platform.domain.model.TenantId;
+import com.nexora.synergy.platform.domain.model.TenantRoute;
+import com.nexora.synergy.platform.domain.model.TenantStatus;
+import com.nexora.synergy.platform.domain.repository.TenantRepository;
+import com.nexora.synergy.platform.interfaces.messaging.TenantRoutingInvalidationListener;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TenantRoutingCacheTest {
+
+    private static final long TTL_SECONDS = 60;
+
+    private final TenantRepository tenantRepository = mock(TenantRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong nanos = new AtomicLong();
+    private final TenantRoutingCache cache = new TenantRoutingCache(tenantRepository, meterRegistry, 100,
+            TTL_SECONDS, nanos::get);
+
+    @Test
+    void repeatedLookupsAreServedFromTheCache() {
+        when(tenantRepository.findRouteByDomainValue("harvard")).thenReturn(Optional.of(route(TenantStatus.ACTIVE)));
+
+        assertThat(cache.lookup("harvard")).hasValueSatisfying(r -> assertThat(r.canAcceptRequests()).isTrue());
+        assertThat(cache.lookup("harvard")).isPresent();
+
+        verify(tenantRepository).findRouteByDomainValue("harvard");
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "tenant.routing").tag("result", "hit")
+                .functionCounter().count()).isOne();
+    }
+
+    @Test
+    void unknownSubdomainsAreCachedToo() {
+        when(tenantRepository.findRouteByDomainValue("junk")).thenReturn(Optional.empty());
+
+        assertThat(cache.lookup("junk")).isEmpty();
+        assertThat(cache.lookup("junk")).isEmpty();
+
+        verify(tenantRepository).findRouteByDomainValue("junk");
+    }
+
+    @Test
+    void entriesExpireAfterTheTtl() {
+        when(tenantRepository.findRouteByDomainValue("harvard")).thenReturn(Optional.of(route(TenantStatus.ACTIVE)));
+        cache.lookup("harvard");
+
+        advance(Duration.ofSeconds(TTL_SECONDS - 1));
+        cache.lookup("harvard");
+        verify(tenantRepository).findRouteByDomainValue("harvard");
+
+        advance(Duration.ofSeconds(1));
+        cache.lookup("harvard");
+        verify(tenantRepository, times(2)).findRouteByDomainValue("harvard");
+    }
+
+    @Test
+    void statusChangeEventEvictsTheRouteBeforeTheTtl() throws Exception {
+        when(tenantRepository.findRouteByDomainValue("harvard"))
+                .thenReturn(Optional.of(route(TenantStatus.ACTIVE)), Optional.of(route(TenantStatus.SUSPENDED)));
+        assertThat(cache.lookup("harvard")).hasValueSatisfying(r -> assertThat(r.canAcceptRequests()).isTrue());
+
+        TenantRoutingInvalidationListener listener = new TenantRoutingInvalidationListener(cache,
+                OutboxPayloadCodecs.jackson(new ObjectMapper(), "json"));
+        listener.onTenantStatusChanged(event("tenant.suspended.v1", "{\"subdomain\":\"harvard\"}"));
+
+        assertThat(cache.lookup("harvard")).hasValueSatisfying(r -> assertThat(r.canAcceptRequests()).isFalse());
+        verify(tenantRepository, times(2)).findRouteByDomainValue("harvard");
+    }
+
+    @Test
+    void evictingOneSubdomainKeepsTheOthers() {
+        when(tenantRepository.findRouteByDomainValue("harvard")).thenReturn(Optional.of(route(TenantStatus.ACTIVE)));
+        when(tenantRepository.findRouteByDomainValue("yale")).thenReturn(Optional.of(route(TenantStatus.ACTIVE)));
+        cache.lookup("harvard");
+        cache.lookup("yale");
+
+        cache.evict("harvard");
+        cache.lookup("harvard");
+        cache.lookup("yale");
+
+        verify(tenantRepository, times(2)).findRouteByDomainValue("harvard");
+        verify(tenantRepository).findRouteByDomainValue("yale");
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private static TenantRoute route(TenantStatus status) {
+        return new TenantRoute(TenantId.generate(), "harvard", status, "tenant_harvard");
+    }
+
+    private static Message event(String type, String json) {
+        MessageProperties properties = new MessageProperties();
+        properties.setType(type);
+        properties.setContentType(OutboxPayloadCodecs.JSON);
+        return new Message(json.getBytes(StandardCharsets.UTF_8), properties);
+    }
+}
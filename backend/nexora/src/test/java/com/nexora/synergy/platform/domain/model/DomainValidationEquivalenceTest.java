@@ -0,0 +1,178 @@
+package com.nexora.synergy.platform.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The single-pass validators in TenantDomain and ContactInfo against the
+ * regex implementations they replaced (copied below as the oracle): same
+ * accepted values, same rejection messages, over random inputs biased
+ * towards the edges — hyphen and dot placement, length limits, uppercase,
+ * whitespace and non-ASCII characters with unusual case mappings.
+ */
+class DomainValidationEquivalenceTest {
+
+    private static final int CASES = 200_000;
+
+    private static final String SUBDOMAIN_CHARS = "abcxyz0189-ABZ_. \t\n\u212A\u0130\u0131\u00E9\u00C9";
+    private static final String EMAIL_CHARS = "abzAZ09._%+-@ \u212A\u00E9";
+
+    private final Locale defaultLocale = Locale.getDefault();
+
+    @AfterEach
+    void tearDown() {
+        Locale.setDefault(defaultLocale);
+        ReservedSubdomains.configure(List.of());
+    }
+
+    @Test
+    void tenantDomainMatchesTheRegexImplementation() {
+        SplittableRandom random = new SplittableRandom(20260101);
+        for (int i = 0; i < CASES; i++) {
+            String input = random.nextInt(50) == 0 ? null : randomString(random, SUBDOMAIN_CHARS, 70);
+            assertSameOutcome(input, s -> TenantDomain.of(s).getValue(), LegacyValidation::subdomain);
+        }
+        for (String reserved : ReservedSubdomains.DEFAULTS) {
+            assertSameOutcome(reserved.toUpperCase(Locale.ROOT), s -> TenantDomain.of(s).getValue(),
+                    LegacyValidation::subdomain);
+        }
+    }
+
+    @Test
+    void tenantDomainMatchesUnderATurkishDefaultLocale() {
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < CASES / 10; i++) {
+            String input = randomString(random, SUBDOMAIN_CHARS, 12);
+            assertSameOutcome(input, s -> TenantDomain.of(s).getValue(), LegacyValidation::subdomain);
+        }
+        assertSameOutcome("ADMIN", s -> TenantDomain.of(s).getValue(), LegacyValidation::subdomain);
+    }
+
+    @Test
+    void contactEmailMatchesTheRegexImplementation() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < CASES; i++) {
+            String input = random.nextBoolean()
+                    ? randomString(random, EMAIL_CHARS, 30)
+                    : mutate(random, plausibleEmail(random));
+            assertSameOutcome(input, s -> ContactInfo.of("Ada Admin", s, null).getAdminEmail(),
+                    LegacyValidation::email);
+        }
+    }
+
+    @Test
+    void reservedSubdomainsAreConfigurable() {
+        assertSameOutcome("admin", s -> TenantDomain.of(s).getValue(), LegacyValidation::subdomain);
+
+        ReservedSubdomains.configure(List.of(" Portal ", "intranet"));
+
+        assertThat(TenantDomain.of("admin").getValue()).isEqualTo("admin");
+        assertThat(outcome(() -> TenantDomain.of("PORTAL").getValue()))
+                .isEqualTo("rejected: Subdomain is reserved and cannot be used: PORTAL");
+    }
+
+    private static void assertSameOutcome(String input, Function<String, String> actual,
+            Function<String, String> expected) {
+        assertThat(outcome(() -> actual.apply(input)))
+                .as("input %s", input == null ? null : input.codePoints()
+                        .mapToObj(cp -> cp < 128 && cp >= 32 ? Character.toString(cp) : String.format("\\u%04X", cp))
+                        .reduce("", String::concat))
+                .isEqualTo(outcome(() -> expected.apply(input)));
+    }
+
+    private static String outcome(Supplier<String> validation) {
+        try {
+            return "accepted: " + validation.get();
+        } catch (IllegalArgumentException e) {
+            return "rejected: " + e.getMessage();
+        }
+    }
+
+    private static String randomString(SplittableRandom random, String alphabet, int maxLength) {
+        int length = random.nextInt(maxLength + 1);
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            // mostly the first, common characters; the rest are edge cases
+            int bound = random.nextInt(4) == 0 ? alphabet.length() : Math.min(10, alphabet.length());
+            sb.append(alphabet.charAt(random.nextInt(bound)));
+        }
+        return sb.toString();
+    }
+
+    private static String plausibleEmail(SplittableRandom random) {
+        return randomString(random, "abc.+_%-Z9", 8) + "@" + randomString(random, "abc-.Z9", 10)
+                + "." + randomString(random, "comZ", 4);
+    }
+
+    private static String mutate(SplittableRandom random, String s) {
+        if (s.isEmpty() || random.nextBoolean()) {
+            return s;
+        }
+        StringBuilder sb = new StringBuilder(s);
+        int at = random.nextInt(sb.length());
+        char c = EMAIL_CHARS.charAt(random.nextInt(EMAIL_CHARS.length()));
+        switch (random.nextInt(3)) {
+            case 0 -> sb.setCharAt(at, c);
+            case 1 -> sb.insert(at, c);
+            default -> sb.deleteCharAt(at);
+        }
+        return sb.toString();
+    }
+
+    /** TenantDomain / ContactInfo validation as it was before the single-pass rewrite. */
+    private static final class LegacyValidation {
+
+        private static final Pattern VALID_SUBDOMAIN
+                = Pattern.compile("^[a-z0-9]([a-z0-9\\-]{1,61}[a-z0-9])?$");
+
+        private static final Pattern EMAIL_PATTERN
+                = Pattern.compile("^[a-zA-Z0-9._%+\\-]+@[a-zA-Z0-9.\\-]+\\.[a-zA-Z]{2,}$");
+
+        static String subdomain(String subdomain) {
+            if (subdomain == null || subdomain.isBlank()) {
+                throw new IllegalArgumentException("Tenant subdomain must not be blank");
+            }
+            if (subdomain.length() < 3 || subdomain.length() > 63) {
+                throw new IllegalArgumentException(
+                        "Tenant subdomain must be 3–63 characters, got: " + subdomain.length());
+            }
+            if (!VALID_SUBDOMAIN.matcher(subdomain.toLowerCase()).matches()) {
+                throw new IllegalArgumentException(
+                        "Tenant subdomain must be lowercase alphanumeric with hyphens only: " + subdomain);
+            }
+            if (isReserved(subdomain.toLowerCase())) {
+                throw new IllegalArgumentException(
+                        "Subdomain is reserved and cannot be used: " + subdomain);
+            }
+            return subdomain.toLowerCase();
+        }
+
+        private static boolean isReserved(String sub) {
+            return switch (sub) {
+                case "www", "api", "admin", "platform", "mail", "smtp", "ftp", "support", "help", "billing", "app",
+                        "static", "cdn" -> true;
+                default -> false;
+            };
+        }
+
+        static String email(String email) {
+            if (email == null || email.isBlank()) {
+                throw new IllegalArgumentException("Admin email must not be blank");
+            }
+            if (!EMAIL_PATTERN.matcher(email).matches()) {
+                throw new IllegalArgumentException("Invalid email format: " + email);
+            }
+            return email.toLowerCase();
+        }
+    }
+}
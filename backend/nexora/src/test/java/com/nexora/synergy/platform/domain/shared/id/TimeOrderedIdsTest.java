@@ -0,0 +1,74 @@
+package com.nexora.synergy.platform.domain.shared.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedIdsTest {
+
+    @Test
+    void producesVersion7UuidsCarryingTheCurrentTime() {
+        long before = System.currentTimeMillis();
+        UUID id = TimeOrderedIds.next();
+        long after = System.currentTimeMillis();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        // the sequence may have pushed the timestamp ahead by a few ms
+        assertThat(TimeOrderedIds.timestampMillis(id)).isBetween(before, after + 50);
+        assertThatThrownBy(() -> TimeOrderedIds.timestampMillis(UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void idsAreUniqueAndIncreasingPerThreadUnderContention() throws Exception {
+        int threads = 8;
+        int perThread = 50_000;
+        List<Future<List<UUID>>> runs = new ArrayList<>();
+        try (ExecutorService pool = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                runs.add(pool.submit(() -> {
+                    List<UUID> ids = new ArrayList<>(perThread);
+                    for (int i = 0; i < perThread; i++) {
+                        ids.add(TimeOrderedIds.next());
+                    }
+                    return ids;
+                }));
+            }
+
+            Set<UUID> all = new HashSet<>();
+            for (Future<List<UUID>> run : runs) {
+                List<UUID> ids = run.get();
+                for (int i = 1; i < ids.size(); i++) {
+                    assertThat(ids.get(i).getMostSignificantBits())
+                            .isGreaterThan(ids.get(i - 1).getMostSignificantBits());
+                }
+                all.addAll(ids);
+            }
+            assertThat(all).hasSize(threads * perThread);
+        }
+    }
+
+    @Test
+    void stringFormSortsInCreationOrder() {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(TimeOrderedIds.nextString("zs-"));
+        }
+
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+        assertThat(ids).allSatisfy(id -> assertThat(id)
+                .hasSize(3 + TimeOrderedIds.BASE32_LENGTH)
+                .matches("zs-[0-7][0-9A-HJKMNP-TV-Z]{25}"));
+    }
+}
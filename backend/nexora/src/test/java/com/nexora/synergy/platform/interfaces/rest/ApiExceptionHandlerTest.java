@@ -0,0 +1,56 @@
+package com.nexora.synergy.platform.interfaces.rest;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.nexora.synergy.exception.IdempotencyConflictException;
+import com.nexora.synergy.exception.TenantDomainAlreadyExistsException;
+
+class ApiExceptionHandlerTest {
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new ThrowingController())
+                .setControllerAdvice(new ApiExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void takenSubdomainIsAConflict() throws Exception {
+        mockMvc.perform(get("/taken"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.errorCode").value("TENANT_DOMAIN_TAKEN"))
+                .andExpect(jsonPath("$.detail").value("Subdomain already registered: greenfield"));
+    }
+
+    @Test
+    void requestStillInFlightIsAConflict() throws Exception {
+        mockMvc.perform(get("/in-flight"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.errorCode").value("IDEMPOTENCY_CONFLICT"));
+    }
+
+    @RestController
+    static class ThrowingController {
+
+        @GetMapping("/taken")
+        String taken() {
+            throw new TenantDomainAlreadyExistsException("Subdomain already registered: greenfield");
+        }
+
+        @GetMapping("/in-flight")
+        String inFlight() {
+            throw new IdempotencyConflictException("key-1");
+        }
+    }
+}
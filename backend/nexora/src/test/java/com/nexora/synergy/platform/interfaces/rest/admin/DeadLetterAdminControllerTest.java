@@ -0,0 +1,50 @@
+package com.nexora.synergy.platform.interfaces.rest.admin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.nexora.synergy.infrastructure.outbox.DeadLetterStore.Cursor;
+
+class DeadLetterAdminControllerTest {
+
+    @Test
+    void cursorRoundTripsAtMicrosecondPrecision() {
+        Cursor cursor = new Cursor(Instant.parse("2026-03-01T12:34:56.123456Z"), UUID.randomUUID());
+
+        String encoded = DeadLetterAdminController.encode(cursor);
+
+        assertThat(encoded).doesNotContain("=", "+", "/");
+        assertThat(DeadLetterAdminController.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    void cursorBeforeTheEpochRoundTrips() {
+        Cursor cursor = new Cursor(Instant.parse("1969-12-31T23:59:59.999999Z"), UUID.randomUUID());
+
+        assertThat(DeadLetterAdminController.decode(DeadLetterAdminController.encode(cursor))).isEqualTo(cursor);
+    }
+
+    @Test
+    void missingCursorStartsAtTheFirstPage() {
+        assertThat(DeadLetterAdminController.decode(null)).isNull();
+        assertThat(DeadLetterAdminController.decode(" ")).isNull();
+    }
+
+    // not base64, "no-separator", "abc:123", "123:not-a-uuid"
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "bm8tc2VwYXJhdG9y", "YWJjOjEyMw", "MTIzOm5vdC1hLXV1aWQ"})
+    void malformedCursorIsABadRequest(String cursor) {
+        assertThatThrownBy(() -> DeadLetterAdminController.decode(cursor))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+}